@@ -0,0 +1,90 @@
+// src/jmh/java/com/eventmanagement/cache/ResponseBodyCacheBenchmark.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.ResponseCacheConfig;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.Visibility;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Serializing (and compressing) the upcoming page on every request vs. answering from stored bytes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseBodyCacheBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ResponseBodyCache responseBodyCache;
+    private PagedResponse<EventResponse> page;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        responseBodyCache = new ResponseBodyCache(objectMapper, new ResponseCacheConfig());
+        List<EventResponse> content = new ArrayList<>(pageSize);
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 18, 0);
+        for (int i = 0; i < pageSize; i++) {
+            EventResponse response = new EventResponse();
+            response.setId(UUID.randomUUID());
+            response.setTitle("Event " + i);
+            response.setDescription("Description of event " + i);
+            response.setHostId(UUID.randomUUID());
+            response.setHostName("Host " + i);
+            response.setStartTime(start.plusHours(i));
+            response.setEndTime(start.plusHours(i + 2));
+            response.setLocation("Location " + i);
+            response.setVisibility(Visibility.PUBLIC);
+            response.setCreatedAt(start.minusDays(30));
+            content.add(response);
+        }
+        page = new PagedResponse<>(content, 0, pageSize, 10_000, 10_000 / pageSize);
+        request = new MockHttpServletRequest("GET", "/api/events/upcoming");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzip() throws Exception {
+        // Level 6, what a compressing connector uses by default
+        return ResponseBodyCache.gzip(objectMapper.writeValueAsBytes(page), 6);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> cachedGzip() {
+        return responseBodyCache.respond(request, ResponseEntity.ok(), "upcoming:0:" + pageSize, page, true);
+    }
+}
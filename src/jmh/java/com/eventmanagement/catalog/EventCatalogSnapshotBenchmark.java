@@ -0,0 +1,85 @@
+// src/jmh/java/com/eventmanagement/catalog/EventCatalogSnapshotBenchmark.java
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.DateRangeMode;
+import com.eventmanagement.enums.Visibility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// SampleTime reports p99/p99.9 per query shape, the figures the anonymous catalog is held to
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCatalogSnapshotBenchmark {
+
+    @Param({"10000", "100000"})
+    public int events;
+
+    private EventCatalogSnapshot snapshot;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<UUID> hosts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            hosts.add(UUID.randomUUID());
+        }
+        List<EventCatalogSnapshot.Row> rows = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            LocalDateTime start = now.minusDays(365).plusMinutes(i * 1051L % (730 * 24 * 60));
+            UUID hostId = hosts.get(i % hosts.size());
+            rows.add(new EventCatalogSnapshot.Row(UUID.randomUUID(), "Event " + i, "Description " + i, hostId,
+                    "Host " + (i % hosts.size()), start, start.plusHours(2), "Location " + (i % 200), null,
+                    null, Visibility.PUBLIC, false, start.minusDays(30), null));
+        }
+        snapshot = EventCatalogSnapshot.of(rows);
+    }
+
+    @Benchmark
+    public PagedResponse<EventResponse> firstPage() {
+        return snapshot.find(new EventCatalogSnapshot.CatalogQuery(null, null, null, null, null, null, null, false), 0, 10);
+    }
+
+    @Benchmark
+    public PagedResponse<EventResponse> upcoming() {
+        return snapshot.find(new EventCatalogSnapshot.CatalogQuery(null, null, null, null, null, null, now, false), 0, 10);
+    }
+
+    @Benchmark
+    public PagedResponse<EventResponse> locationSearch() {
+        return snapshot.find(new EventCatalogSnapshot.CatalogQuery(null, "location 4", null, null, null, null, null, false), 2, 10);
+    }
+
+    @Benchmark
+    public PagedResponse<EventResponse> overlappingWeek() {
+        return snapshot.find(new EventCatalogSnapshot.CatalogQuery(null, null, now, now.plusDays(7),
+                DateRangeMode.OVERLAPS, null, null, false), 0, 10);
+    }
+
+    @Benchmark
+    public PagedResponse<EventResponse> titleSearchInRange() {
+        return snapshot.find(new EventCatalogSnapshot.CatalogQuery("event 9", null, now, now.plusDays(90), null, null, null, true),
+                0, 10);
+    }
+}
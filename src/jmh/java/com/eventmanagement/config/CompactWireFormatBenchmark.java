@@ -0,0 +1,122 @@
+// src/jmh/java/com/eventmanagement/config/CompactWireFormatBenchmark.java
+package com.eventmanagement.config;
+
+import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.Visibility;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Serialization time per format; the payload sizes are printed once per fork from setUp
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactWireFormatBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private PagedResponse<EventResponse> page;
+    private EventDetailResponse detail;
+
+    @Setup
+    public void setUp() throws Exception {
+        jsonMapper = new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        smileMapper = CompactWireFormatConfig.smileMapper(
+                new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 18, 0);
+
+        List<EventResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EventResponse event = new EventResponse();
+            event.setId(UUID.randomUUID());
+            event.setTitle("Event " + i);
+            event.setDescription("Description of event " + i);
+            event.setHostId(UUID.randomUUID());
+            event.setHostName("Host " + i);
+            event.setStartTime(start.plusHours(i));
+            event.setEndTime(start.plusHours(i + 2));
+            event.setLocation("Location " + i);
+            event.setVisibility(Visibility.PUBLIC);
+            event.setCreatedAt(start.minusDays(30));
+            event.setUpdatedAt(start.minusDays(1));
+            content.add(event);
+        }
+        page = new PagedResponse<>(content, 0, size, 10_000, 10_000 / size);
+
+        detail = new EventDetailResponse();
+        detail.setId(UUID.randomUUID());
+        detail.setTitle("Launch");
+        detail.setDescription("Launch party");
+        detail.setHostId(UUID.randomUUID());
+        detail.setHostName("Host");
+        detail.setStartTime(start);
+        detail.setEndTime(start.plusHours(3));
+        detail.setLocation("Main hall");
+        detail.setVisibility(Visibility.PUBLIC);
+        detail.setCreatedAt(start.minusDays(30));
+        detail.setUpdatedAt(start.minusDays(1));
+        List<EventDetailResponse.AttendeeResponse> attendees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EventDetailResponse.AttendeeResponse attendee = new EventDetailResponse.AttendeeResponse();
+            attendee.setUserId(UUID.randomUUID());
+            attendee.setUserName("Attendee " + i);
+            attendee.setStatus(AttendanceStatus.GOING);
+            attendee.setRespondedAt(start.minusDays(2).plusMinutes(i));
+            attendees.add(attendee);
+        }
+        detail.setAttendees(attendees);
+        detail.setAttendeeCount((long) size);
+        detail.setAttendanceBreakdown(Map.of(AttendanceStatus.GOING, (long) size));
+
+        System.out.printf("%nPayload bytes for %d items: page JSON %d, Smile %d; detail JSON %d, Smile %d%n", size,
+                jsonMapper.writeValueAsBytes(page).length, smileMapper.writeValueAsBytes(page).length,
+                jsonMapper.writeValueAsBytes(detail).length, smileMapper.writeValueAsBytes(detail).length);
+    }
+
+    @Benchmark
+    public byte[] pageJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageSmile() throws Exception {
+        return smileMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] detailJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] detailSmile() throws Exception {
+        return smileMapper.writeValueAsBytes(detail);
+    }
+}
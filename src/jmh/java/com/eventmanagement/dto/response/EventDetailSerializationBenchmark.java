@@ -0,0 +1,81 @@
+// src/jmh/java/com/eventmanagement/dto/response/EventDetailSerializationBenchmark.java
+package com.eventmanagement.dto.response;
+
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.Visibility;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDetailSerializationBenchmark {
+
+    private static final AttendanceStatus[] STATUSES = {
+            AttendanceStatus.GOING, AttendanceStatus.MAYBE, AttendanceStatus.DECLINED};
+
+    @Param({"100", "10000"})
+    public int attendees;
+
+    private ObjectMapper objectMapper;
+    private EventDetailResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        response = new EventDetailResponse();
+        response.setId(UUID.randomUUID());
+        response.setTitle("Benchmark Event");
+        response.setDescription("A large event used to benchmark detail serialization");
+        response.setHostId(UUID.randomUUID());
+        response.setHostName("Bench Host");
+        response.setStartTime(now.plusDays(1));
+        response.setEndTime(now.plusDays(1).plusHours(3));
+        response.setLocation("Colombo");
+        response.setVisibility(Visibility.PUBLIC);
+        response.setCreatedAt(now);
+        response.setUpdatedAt(now);
+
+        List<EventDetailResponse.AttendeeResponse> attendeeList = new ArrayList<>(attendees);
+        Map<AttendanceStatus, Long> breakdown = new EnumMap<>(AttendanceStatus.class);
+        for (int i = 0; i < attendees; i++) {
+            AttendanceStatus status = STATUSES[i % STATUSES.length];
+            attendeeList.add(new EventDetailResponse.AttendeeResponse(
+                    UUID.randomUUID(), "Attendee " + i, status, now.minusMinutes(i)));
+            breakdown.merge(status, 1L, Long::sum);
+        }
+        response.setAttendees(attendeeList);
+        response.setAttendanceBreakdown(breakdown);
+        response.setAttendeeCount((long) attendees);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,66 @@
+// src/jmh/java/com/eventmanagement/dto/response/PagedResponseBenchmark.java
+package com.eventmanagement.dto.response;
+
+import com.eventmanagement.enums.Visibility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedResponseBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private Page<EventResponse> page;
+
+    @Setup
+    public void setUp() {
+        List<EventResponse> content = new ArrayList<>(pageSize);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < pageSize; i++) {
+            EventResponse response = new EventResponse();
+            response.setId(UUID.randomUUID());
+            response.setTitle("Event " + i);
+            response.setStartTime(start.plusHours(i));
+            response.setEndTime(start.plusHours(i + 2));
+            response.setLocation("Location " + i);
+            response.setVisibility(Visibility.PUBLIC);
+            content.add(response);
+        }
+        page = new PageImpl<>(content, PageRequest.of(3, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public PagedResponse<EventResponse> fromPage() {
+        return new PagedResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+// src/jmh/java/com/eventmanagement/mapper/EventMapperBenchmark.java
+package com.eventmanagement.mapper;
+
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.enums.Role;
+import com.eventmanagement.enums.Visibility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private EventMapper eventMapper;
+    private List<Event> events;
+
+    @Setup
+    public void setUp() {
+        eventMapper = new EventMapperImpl();
+
+        User host = new User("Bench Host", "host@example.com", "password", Role.USER);
+        host.setId(UUID.randomUUID());
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Event event = new Event("Event " + i, "Description of event " + i, host,
+                    start.plusHours(i), start.plusHours(i + 2), "Location " + (i % 50), Visibility.PUBLIC);
+            event.setId(UUID.randomUUID());
+            event.setCreatedAt(start);
+            event.setUpdatedAt(start);
+            events.add(event);
+        }
+    }
+
+    @Benchmark
+    public List<EventResponse> toResponseList() {
+        return eventMapper.toResponseList(events);
+    }
+}
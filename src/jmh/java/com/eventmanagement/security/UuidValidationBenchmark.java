@@ -0,0 +1,43 @@
+// src/jmh/java/com/eventmanagement/security/UuidValidationBenchmark.java
+package com.eventmanagement.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidValidationBenchmark {
+
+    @Param({"uuid", "email"})
+    public String input;
+
+    private CustomUserDetailsService userDetailsService;
+    private String username;
+
+    @Setup
+    public void setUp() {
+        userDetailsService = new CustomUserDetailsService();
+        username = "uuid".equals(input) ? UUID.randomUUID().toString() : "john.doe@example.com";
+    }
+
+    @Benchmark
+    public boolean isValidUUID() {
+        return userDetailsService.isValidUUID(username);
+    }
+}
@@ -0,0 +1,171 @@
+// src/main/java/com/eventmanagement/cache/AccessFrequencyTracker.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.CacheWarmupConfig;
+import com.eventmanagement.util.CountMinSketch;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks how often each event's details are requested, so a starting instance can preload the
+ * most requested ones. Frequencies live in a {@link CountMinSketch}; since a sketch cannot list
+ * its keys, the ids with the highest estimates are kept as candidates, a few times more than the
+ * warm-up needs. Both are saved to {@code cache_access_sketches} at shutdown and every decay
+ * interval, when the counts are also halved so that popularity fades.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-warmup", name = "enabled", havingValue = "true")
+public class AccessFrequencyTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessFrequencyTracker.class);
+
+    static final String EVENT_DETAILS = "eventDetails";
+    private static final int CANDIDATES_PER_TOP_EVENT = 4;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheWarmupConfig cacheWarmupConfig;
+
+    private final Map<UUID, Integer> candidates = new ConcurrentHashMap<>();
+    private volatile CountMinSketch sketch;
+    private volatile int candidateFloor;
+
+    public AccessFrequencyTracker() {
+    }
+
+    AccessFrequencyTracker(CacheWarmupConfig cacheWarmupConfig, JdbcTemplate jdbcTemplate) {
+        this.cacheWarmupConfig = cacheWarmupConfig;
+        this.jdbcTemplate = jdbcTemplate;
+        init();
+    }
+
+    @PostConstruct
+    void init() {
+        sketch = new CountMinSketch(cacheWarmupConfig.getSketchDepth(), cacheWarmupConfig.getSketchWidth());
+    }
+
+    public void record(UUID eventId) {
+        int count = sketch.add(hash(eventId));
+        if (candidates.replace(eventId, count) != null) {
+            return;
+        }
+        if (candidates.size() < capacity()) {
+            candidates.put(eventId, count);
+            return;
+        }
+        if (count <= candidateFloor) {
+            return;
+        }
+        synchronized (candidates) {
+            Map.Entry<UUID, Integer> weakest = weakestCandidate();
+            if (weakest != null && count > weakest.getValue()) {
+                candidates.remove(weakest.getKey());
+                candidates.put(eventId, count);
+                weakest = weakestCandidate();
+            }
+            candidateFloor = weakest != null ? weakest.getValue() : 0;
+        }
+    }
+
+    /**
+     * The most requested events, most requested first.
+     */
+    public List<UUID> topEvents(int limit) {
+        CountMinSketch current = sketch;
+        return candidates.keySet().stream()
+                .sorted(Comparator.comparingInt((UUID id) -> current.estimate(hash(id))).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Replaces the current counts with the saved ones, if any were saved with the same dimensions.
+     */
+    public void load() {
+        try {
+            jdbcTemplate.query("SELECT sketch, candidates FROM cache_access_sketches WHERE name = ?", rs -> {
+                CountMinSketch saved = CountMinSketch.fromBytes(rs.getBytes("sketch"));
+                if (!saved.hasSameDimensions(sketch)) {
+                    logger.info("Ignoring saved access sketch built with different dimensions");
+                    return;
+                }
+                sketch = saved;
+                candidates.clear();
+                Array ids = rs.getArray("candidates");
+                for (Object id : (Object[]) ids.getArray()) {
+                    UUID eventId = id instanceof UUID uuid ? uuid : UUID.fromString(id.toString());
+                    candidates.put(eventId, saved.estimate(hash(eventId)));
+                }
+                ids.free();
+                recomputeFloor();
+            }, EVENT_DETAILS);
+        } catch (DataAccessException | IllegalArgumentException | BufferUnderflowException ex) {
+            logger.warn("Could not load the saved access sketch; starting with empty counts", ex);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void save() {
+        List<UUID> ids = new ArrayList<>(candidates.keySet());
+        try {
+            jdbcTemplate.update("INSERT INTO cache_access_sketches (name, sketch, candidates, updated_at) " +
+                    "VALUES (?, ?, ?, CURRENT_TIMESTAMP) ON CONFLICT (name) DO UPDATE SET sketch = EXCLUDED.sketch, " +
+                    "candidates = EXCLUDED.candidates, updated_at = EXCLUDED.updated_at", ps -> {
+                ps.setString(1, EVENT_DETAILS);
+                ps.setBytes(2, sketch.toBytes());
+                ps.setArray(3, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+            });
+        } catch (DataAccessException ex) {
+            logger.warn("Could not save the access sketch", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-warmup.decay-interval:PT1H}",
+            initialDelayString = "${app.cache-warmup.decay-interval:PT1H}")
+    public void decay() {
+        sketch.halve();
+        candidates.replaceAll((id, count) -> count >>> 1);
+        recomputeFloor();
+        // Saved here as well, so a crash loses at most one interval of counts
+        save();
+    }
+
+    private int capacity() {
+        return cacheWarmupConfig.getTopEvents() * CANDIDATES_PER_TOP_EVENT;
+    }
+
+    private Map.Entry<UUID, Integer> weakestCandidate() {
+        return candidates.entrySet().stream().min(Map.Entry.comparingByValue()).orElse(null);
+    }
+
+    private void recomputeFloor() {
+        synchronized (candidates) {
+            Map.Entry<UUID, Integer> weakest = weakestCandidate();
+            candidateFloor = weakest != null ? weakest.getValue() : 0;
+        }
+    }
+
+    private static long hash(UUID id) {
+        return id.getMostSignificantBits() * 0x9E3779B97F4A7C15L + id.getLeastSignificantBits();
+    }
+}
@@ -0,0 +1,95 @@
+// src/main/java/com/eventmanagement/cache/CacheEntryWeigher.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates the retained heap size of a cache entry in bytes, so caches can be bounded with
+ * {@code maximumWeight}. The figures are deliberately rough, per-object approximations for a
+ * 64-bit JVM with compressed oops; they only need to rank a 10,000-attendee event far above a
+ * single principal, not to match a heap dump. Unknown types get a flat estimate.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    static final int OBJECT = 16;
+    static final int REFERENCE = 4;
+    static final int UUID = 32;
+    static final int DATE_TIME = 72;
+    static final int BOXED = 16;
+    static final int UNKNOWN = 256;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = estimate(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            // Header, array header and one byte per character for Latin-1 strings; UTF-16 ones
+            // are twice that, so count two bytes to stay on the safe side
+            return 40 + 2L * string.length();
+        }
+        if (value instanceof java.util.UUID) {
+            return UUID;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+            // Enum constants and small boxes are shared, but a reference is still held
+            return BOXED;
+        }
+        if (value instanceof java.time.temporal.Temporal) {
+            return DATE_TIME;
+        }
+        if (value instanceof EventResponse event) {
+            return OBJECT + 14 * REFERENCE + 2 * UUID + 4 * DATE_TIME + 3 * BOXED
+                    + estimate(event.getTitle()) + estimate(event.getDescription())
+                    + estimate(event.getLocation()) + estimate(event.getHostName());
+        }
+        if (value instanceof EventDetailResponse detail) {
+            return OBJECT + 16 * REFERENCE + 2 * UUID + 4 * DATE_TIME + 3 * BOXED
+                    + estimate(detail.getTitle()) + estimate(detail.getDescription())
+                    + estimate(detail.getLocation()) + estimate(detail.getHostName())
+                    + estimate(detail.getAttendanceBreakdown()) + estimate(detail.getAttendees());
+        }
+        if (value instanceof EventDetailResponse.AttendeeResponse attendee) {
+            return OBJECT + 4 * REFERENCE + UUID + DATE_TIME + estimate(attendee.getUserName());
+        }
+        if (value instanceof PagedResponse<?> page) {
+            return OBJECT + REFERENCE + 24 + estimate(page.getContent());
+        }
+        if (value instanceof UserPrincipal principal) {
+            return OBJECT + 5 * REFERENCE + UUID + estimate(principal.getName()) + estimate(principal.getUsername())
+                    + estimate(principal.getPassword()) + 64;
+        }
+        if (value instanceof Collection<?> collection) {
+            long weight = OBJECT + 16 + (long) REFERENCE * collection.size();
+            for (Object element : collection) {
+                weight += estimate(element);
+            }
+            return weight;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long weight = OBJECT + 16 + 36L * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return weight;
+        }
+        if (value instanceof SimpleKey key) {
+            // SimpleKey keeps its parameters private; its string form is a fair proxy
+            return OBJECT + estimate(key.toString());
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,19 @@
+// src/main/java/com/eventmanagement/cache/CacheInvalidation.java
+package com.eventmanagement.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A single cache entry to drop on the other nodes; a null key drops the whole cache.
+ */
+public record CacheInvalidation(String cache, String key) {
+
+    public static CacheInvalidation all(String cache) {
+        return new CacheInvalidation(cache, null);
+    }
+
+    @JsonIgnore
+    public boolean isWholeCache() {
+        return key == null;
+    }
+}
@@ -0,0 +1,320 @@
+// src/main/java/com/eventmanagement/cache/CacheInvalidationBus.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.CacheInvalidationConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cross-node cache invalidation over PostgreSQL LISTEN/NOTIFY. Invalidations raised inside a
+ * read-write transaction are collected and sent with pg_notify just before it commits, so other
+ * nodes only hear about committed changes; elsewhere they are sent straight away in a
+ * transaction of their own. Each node listens on a dedicated connection outside the pool,
+ * ignores its own messages and hands every received batch, deduplicated, to its listeners.
+ * NOTIFY is not durable, so after the listening connection is re-established every cache is
+ * flushed to cover whatever was sent while it was down.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    // NOTIFY payloads must be shorter than 8000 bytes
+    static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Object PENDING_RESOURCE_KEY = new Object();
+
+    @Autowired
+    private CacheInvalidationConfig cacheInvalidationConfig;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final String nodeId;
+    private final List<CacheInvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private TransactionTemplate sendTemplate;
+    private Counter publishedMessages;
+    private Counter receivedMessages;
+    private final CountDownLatch listening = new CountDownLatch(1);
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public CacheInvalidationBus() {
+        this.nodeId = UUID.randomUUID().toString();
+    }
+
+    CacheInvalidationBus(CacheInvalidationConfig cacheInvalidationConfig, ObjectMapper objectMapper, String nodeId) {
+        this.cacheInvalidationConfig = cacheInvalidationConfig;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+    }
+
+    @PostConstruct
+    void init() {
+        if (!CHANNEL_NAME.matcher(cacheInvalidationConfig.getChannel()).matches()) {
+            throw new IllegalStateException("Invalid cache invalidation channel: " + cacheInvalidationConfig.getChannel());
+        }
+        sendTemplate = new TransactionTemplate(transactionManager);
+        sendTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (meterRegistry != null) {
+            publishedMessages = Counter.builder("app.cache.invalidation.published")
+                    .description("Cache invalidation notifications sent to other nodes")
+                    .register(meterRegistry);
+            receivedMessages = Counter.builder("app.cache.invalidation.received")
+                    .description("Cache invalidation notifications received from other nodes")
+                    .register(meterRegistry);
+        }
+    }
+
+    // Started before the application runners, so that entries the cache warm-up loads are
+    // already covered by invalidations
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * Waits until this node first listens for invalidations; returns false on timeout.
+     */
+    public boolean awaitListening(Duration timeout) throws InterruptedException {
+        return listening.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void addListener(CacheInvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void publish(CacheInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Read-only transactions may be on the replica, where NOTIFY is not allowed; they
+            // changed nothing, so invalidating ahead of their commit is harmless
+            sendTemplate.executeWithoutResult(status -> send(List.of(invalidation)));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<CacheInvalidation> pending = (Set<CacheInvalidation>) TransactionSynchronizationManager.getResource(PENDING_RESOURCE_KEY);
+        if (pending == null) {
+            Set<CacheInvalidation> batch = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_RESOURCE_KEY, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(batch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_RESOURCE_KEY);
+                }
+            });
+            pending = batch;
+        }
+        pending.add(invalidation);
+    }
+
+    private void send(Collection<CacheInvalidation> invalidations) {
+        for (String payload : encode(invalidations)) {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", cacheInvalidationConfig.getChannel(), payload);
+            if (publishedMessages != null) {
+                publishedMessages.increment();
+            }
+        }
+    }
+
+    /**
+     * Splits the invalidations into as few payloads as fit the NOTIFY size limit. An entry whose
+     * key alone is too large is widened to its whole cache.
+     */
+    List<String> encode(Collection<CacheInvalidation> invalidations) {
+        Set<CacheInvalidation> entries = new LinkedHashSet<>(dedupe(invalidations));
+        List<String> payloads = new ArrayList<>();
+        List<CacheInvalidation> chunk = new ArrayList<>();
+        int overhead = utf8Length(write(new Message(nodeId, List.of())));
+        int size = overhead;
+        for (CacheInvalidation entry : entries) {
+            int entrySize = utf8Length(write(entry)) + 1;
+            if (overhead + entrySize > MAX_PAYLOAD_BYTES) {
+                entry = CacheInvalidation.all(entry.cache());
+                entrySize = utf8Length(write(entry)) + 1;
+            }
+            if (size + entrySize > MAX_PAYLOAD_BYTES && !chunk.isEmpty()) {
+                payloads.add(write(new Message(nodeId, chunk)));
+                chunk = new ArrayList<>();
+                size = overhead;
+            }
+            chunk.add(entry);
+            size += entrySize;
+        }
+        if (!chunk.isEmpty()) {
+            payloads.add(write(new Message(nodeId, chunk)));
+        }
+        return payloads;
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + cacheInvalidationConfig.getChannel());
+                }
+                listening.countDown();
+                if (connectedBefore) {
+                    logger.info("Cache invalidation listener reconnected; flushing local caches");
+                    listeners.forEach(CacheInvalidationListener::invalidateAll);
+                }
+                connectedBefore = true;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) cacheInvalidationConfig.getPollTimeout().toMillis());
+                    if (notifications != null && notifications.length > 0) {
+                        List<String> payloads = new ArrayList<>(notifications.length);
+                        for (PGNotification notification : notifications) {
+                            payloads.add(notification.getParameter());
+                        }
+                        receive(payloads);
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Cache invalidation listener lost its connection; retrying in {}",
+                        cacheInvalidationConfig.getReconnectDelay(), ex);
+                try {
+                    Thread.sleep(cacheInvalidationConfig.getReconnectDelay().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes one batch of notifications and passes the invalidations from other nodes to the
+     * listeners, with duplicates and keys covered by a whole-cache entry removed.
+     */
+    void receive(List<String> payloads) {
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        for (String payload : payloads) {
+            try {
+                Message message = objectMapper.readValue(payload, Message.class);
+                if (nodeId.equals(message.node()) || message.entries() == null) {
+                    continue;
+                }
+                invalidations.addAll(message.entries());
+                if (receivedMessages != null) {
+                    receivedMessages.increment();
+                }
+            } catch (JsonProcessingException ex) {
+                logger.warn("Ignoring malformed cache invalidation payload: {}", payload);
+            }
+        }
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        Collection<CacheInvalidation> batch = dedupe(invalidations);
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.invalidate(batch);
+            } catch (RuntimeException ex) {
+                logger.warn("Cache invalidation listener {} failed", listener, ex);
+            }
+        }
+    }
+
+    static Collection<CacheInvalidation> dedupe(Collection<CacheInvalidation> invalidations) {
+        Set<String> wholeCaches = new LinkedHashSet<>();
+        for (CacheInvalidation invalidation : invalidations) {
+            if (invalidation.isWholeCache()) {
+                wholeCaches.add(invalidation.cache());
+            }
+        }
+        Set<CacheInvalidation> result = new LinkedHashSet<>();
+        for (CacheInvalidation invalidation : invalidations) {
+            if (invalidation.isWholeCache() || !wholeCaches.contains(invalidation.cache())) {
+                result.add(invalidation);
+            }
+        }
+        return result;
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode cache invalidation", ex);
+        }
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    record Message(String node, List<CacheInvalidation> entries) {
+    }
+}
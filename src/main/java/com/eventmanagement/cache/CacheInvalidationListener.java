@@ -0,0 +1,14 @@
+// src/main/java/com/eventmanagement/cache/CacheInvalidationListener.java
+package com.eventmanagement.cache;
+
+import java.util.Collection;
+
+public interface CacheInvalidationListener {
+
+    void invalidate(Collection<CacheInvalidation> invalidations);
+
+    /**
+     * Called after the bus may have missed messages, e.g. when its connection was re-established.
+     */
+    void invalidateAll();
+}
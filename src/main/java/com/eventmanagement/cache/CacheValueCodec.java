@@ -0,0 +1,100 @@
+// src/main/java/com/eventmanagement/cache/CacheValueCodec.java
+package com.eventmanagement.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Binary (Smile) encoding of cached values for the remote tier. Only registered types are
+ * shared: each value is written behind a one-byte tag naming its registered type, so no class
+ * names travel over the wire and nothing outside the registry is ever deserialized. Values of
+ * any other type stay in the local tier only.
+ */
+public class CacheValueCodec {
+
+    private static final byte NULL_TAG = 0;
+
+    private final ObjectMapper mapper = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            // Nodes on different versions share the tier during a rolling deploy
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final List<Registration> registrations = new ArrayList<>();
+
+    public CacheValueCodec register(int tag, Class<?> type) {
+        return register(tag, mapper.constructType(type), type::isInstance);
+    }
+
+    public CacheValueCodec register(int tag, TypeReference<?> type, Predicate<Object> matches) {
+        return register(tag, mapper.constructType(type), matches);
+    }
+
+    private CacheValueCodec register(int tag, JavaType type, Predicate<Object> matches) {
+        if (tag <= NULL_TAG || tag > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Tag must be between 1 and " + Byte.MAX_VALUE);
+        }
+        if (registrations.stream().anyMatch(registration -> registration.tag == tag)) {
+            throw new IllegalArgumentException("Tag " + tag + " is already registered");
+        }
+        registrations.add(new Registration((byte) tag, type, matches));
+        return this;
+    }
+
+    /**
+     * @return the encoded value, or null when its type is not registered
+     */
+    public byte[] encode(Object value) {
+        if (value == null) {
+            return new byte[] {NULL_TAG};
+        }
+        for (Registration registration : registrations) {
+            if (registration.matches.test(value)) {
+                try {
+                    byte[] body = mapper.writerFor(registration.type).writeValueAsBytes(value);
+                    byte[] encoded = new byte[body.length + 1];
+                    encoded[0] = registration.tag;
+                    System.arraycopy(body, 0, encoded, 1, body.length);
+                    return encoded;
+                } catch (IOException ex) {
+                    throw new IllegalStateException("Could not encode cache value of " + value.getClass(), ex);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @throws IllegalArgumentException when the bytes were not produced by a matching registry
+     */
+    public Object decode(byte[] encoded) {
+        if (encoded.length == 0) {
+            throw new IllegalArgumentException("Empty cache value");
+        }
+        if (encoded[0] == NULL_TAG) {
+            return null;
+        }
+        for (Registration registration : registrations) {
+            if (registration.tag == encoded[0]) {
+                try {
+                    return mapper.readValue(Arrays.copyOfRange(encoded, 1, encoded.length), registration.type);
+                } catch (IOException ex) {
+                    throw new IllegalArgumentException("Could not decode cache value as " + registration.type, ex);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown cache value tag " + encoded[0]);
+    }
+
+    private record Registration(byte tag, JavaType type, Predicate<Object> matches) {
+    }
+}
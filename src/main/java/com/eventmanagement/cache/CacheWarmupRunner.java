@@ -0,0 +1,123 @@
+// src/main/java/com/eventmanagement/cache/CacheWarmupRunner.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.catalog.EventCatalogService;
+import com.eventmanagement.config.CacheWarmupConfig;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.exception.UnauthorizedException;
+import com.eventmanagement.service.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preloads the first upcoming-event pages, unless the event catalog serves them, and the most
+ * requested event details before the instance takes traffic. Spring Boot reports readiness only
+ * once the application runners have returned, so the instance stays out of rotation until
+ * warm-up finishes or its timeout runs out; whatever was not loaded by then is loaded on demand
+ * as usual. Details are loaded for anonymous viewers, the only key shared across users.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-warmup", name = "enabled", havingValue = "true")
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupRunner.class);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private AccessFrequencyTracker accessFrequencyTracker;
+
+    @Autowired
+    private CacheWarmupConfig cacheWarmupConfig;
+
+    @Autowired(required = false)
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired(required = false)
+    private EventCatalogService eventCatalogService;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        long deadline = System.nanoTime() + cacheWarmupConfig.getTimeout().toNanos();
+        if (cacheInvalidationBus != null && !cacheInvalidationBus.awaitListening(remaining(deadline))) {
+            logger.warn("Skipping cache warm-up: not yet listening for cache invalidations");
+            return;
+        }
+        accessFrequencyTracker.load();
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicInteger loaded = new AtomicInteger();
+        Thread worker = new Thread(() -> warmUp(cancelled, loaded), "cache-warmup");
+        worker.setDaemon(true);
+        worker.start();
+        worker.join(Math.max(1, remaining(deadline).toMillis()));
+        if (worker.isAlive()) {
+            cancelled.set(true);
+            logger.warn("Cache warm-up timed out after {} with {} entries loaded", cacheWarmupConfig.getTimeout(), loaded.get());
+        } else {
+            logger.info("Cache warm-up loaded {} entries", loaded.get());
+        }
+        if (meterRegistry != null) {
+            Counter.builder("app.cache.warmup.loaded")
+                    .description("Cache entries preloaded before the instance became ready")
+                    .register(meterRegistry)
+                    .increment(loaded.get());
+        }
+    }
+
+    void warmUp(AtomicBoolean cancelled, AtomicInteger loaded) {
+        // With the catalog, upcoming pages are served from its snapshot, loaded before readiness
+        int upcomingPages = eventCatalogService == null ? cacheWarmupConfig.getUpcomingPages() : 0;
+        for (int page = 0; page < upcomingPages && !cancelled.get(); page++) {
+            try {
+                // Same pageable as EventController#getUpcomingEvents, so the cache keys match
+                PagedResponse<?> response = eventService.getUpcomingEvents(PageRequest.of(page,
+                        cacheWarmupConfig.getUpcomingPageSize(), Sort.by("startTime").ascending()));
+                loaded.incrementAndGet();
+                if (response.isLast()) {
+                    break;
+                }
+            } catch (RuntimeException ex) {
+                logger.warn("Cache warm-up could not load upcoming events page {}", page, ex);
+                return;
+            }
+        }
+        for (UUID eventId : accessFrequencyTracker.topEvents(cacheWarmupConfig.getTopEvents())) {
+            if (cancelled.get()) {
+                return;
+            }
+            try {
+                eventService.getEventDetails(eventId, null);
+                loaded.incrementAndGet();
+            } catch (ResourceNotFoundException | UnauthorizedException ex) {
+                // Deleted since, or private
+            } catch (RuntimeException ex) {
+                logger.warn("Cache warm-up could not load event {}", eventId, ex);
+                return;
+            }
+        }
+    }
+
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+}
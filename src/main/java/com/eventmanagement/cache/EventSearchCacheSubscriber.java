@@ -0,0 +1,41 @@
+// src/main/java/com/eventmanagement/cache/EventSearchCacheSubscriber.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.enums.DomainEventType;
+import com.eventmanagement.outbox.DomainEvent;
+import com.eventmanagement.outbox.DomainEventSubscriber;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * With the outbox enabled, clears the search results once an event change is relayed rather
+ * than in the request that made it, which then skips the remote tier and the other nodes.
+ * Listings are stale for about one poll interval; event details are still evicted on write.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class EventSearchCacheSubscriber implements DomainEventSubscriber {
+
+    private static final Set<DomainEventType> EVENT_CHANGES =
+            EnumSet.of(DomainEventType.EVENT_CREATED, DomainEventType.EVENT_UPDATED, DomainEventType.EVENT_DELETED);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        if (!EVENT_CHANGES.contains(event.type())) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(EventSearchKeyGenerator.CACHE_NAME);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+// src/main/java/com/eventmanagement/cache/EventSearchKeyGenerator.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.util.DateUtils;
+import com.eventmanagement.util.HyperLogLog;
+import com.eventmanagement.util.ValidationUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Cache key for {@code EventService.getAllEvents}. Filters are reduced to the form the query
+ * actually runs with: text trimmed and, since it is matched case-insensitively, lowercased;
+ * date bounds widened to whole minutes; sort orders after the first one on a property dropped.
+ * The canonical form is hashed into a 22-character key, so equivalent searches share one entry
+ * and keys stay small in every tier. Distinct keys over the last one to two hours and the
+ * cache's hit ratio are published as gauges.
+ */
+@Component(EventSearchKeyGenerator.BEAN_NAME)
+public class EventSearchKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "eventSearchKeyGenerator";
+    static final String CACHE_NAME = "eventSearch";
+    private static final Duration CARDINALITY_WINDOW = Duration.ofHours(1);
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private CacheManager cacheManager;
+
+    private volatile HyperLogLog currentKeys = new HyperLogLog();
+    private volatile HyperLogLog previousKeys = new HyperLogLog();
+    private volatile long windowStart = System.nanoTime();
+
+    @PostConstruct
+    void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("app.cache.keys.distinct", this, EventSearchKeyGenerator::distinctKeys)
+                .description("Distinct cache keys seen over the last one to two hours")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        if (cacheManager != null && cacheManager.getCache(CACHE_NAME) instanceof CaffeineCache caffeineCache) {
+            Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            Gauge.builder("app.cache.hit.ratio", nativeCache, cache -> cache.stats().hitRate())
+                    .description("Share of cache lookups answered from the cache since startup")
+                    .tag("cache", CACHE_NAME)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Expects the {@code getAllEvents} parameters: title, location, startDate, endDate,
+     * dateMode, visibility, hostId, pageable.
+     */
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length != 8) {
+            throw new IllegalArgumentException(BEAN_NAME + " does not apply to " + method);
+        }
+        String canonical = canonicalForm(params);
+        byte[] digest = sha256(canonical);
+        recordKey(ByteBuffer.wrap(digest).getLong());
+        // 128 bits keep accidental collisions out of reach for any realistic number of searches
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+    }
+
+    static String canonicalForm(Object... params) {
+        StringBuilder key = new StringBuilder(128);
+        key.append("t=").append(normalizeText(params[0]));
+        key.append("|l=").append(normalizeText(params[1]));
+        key.append("|s=").append(params[2] instanceof LocalDateTime start ? DateUtils.floorToMinute(start) : null);
+        key.append("|e=").append(params[3] instanceof LocalDateTime end ? DateUtils.ceilToMinute(end) : null);
+        key.append("|m=").append(params[4]);
+        key.append("|v=").append(params[5]);
+        key.append("|h=").append(params[6]);
+        if (params[7] instanceof Pageable pageable && pageable.isPaged()) {
+            key.append("|p=").append(pageable.getPageNumber()).append(',').append(pageable.getPageSize());
+            key.append("|o=").append(canonicalSort(pageable.getSort()));
+        } else {
+            key.append("|p=all|o=").append(params[7] instanceof Pageable pageable ? canonicalSort(pageable.getSort()) : "");
+        }
+        return key.toString();
+    }
+
+    private static String normalizeText(Object value) {
+        String text = ValidationUtils.trimToNull((String) value);
+        return text != null ? text.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static String canonicalSort(Sort sort) {
+        StringBuilder orders = new StringBuilder();
+        Set<String> seen = new HashSet<>();
+        for (Sort.Order order : sort) {
+            // A later order on the same property can never break a tie
+            if (!seen.add(order.getProperty())) {
+                continue;
+            }
+            if (!orders.isEmpty()) {
+                orders.append(';');
+            }
+            orders.append(order.getProperty()).append(':').append(order.getDirection());
+            if (order.isIgnoreCase()) {
+                orders.append(":ci");
+            }
+            if (order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                orders.append(':').append(order.getNullHandling());
+            }
+        }
+        return orders.toString();
+    }
+
+    private void recordKey(long hash) {
+        long now = System.nanoTime();
+        if (now - windowStart >= CARDINALITY_WINDOW.toNanos()) {
+            synchronized (this) {
+                if (now - windowStart >= CARDINALITY_WINDOW.toNanos()) {
+                    previousKeys = currentKeys;
+                    currentKeys = new HyperLogLog();
+                    windowStart = now;
+                }
+            }
+        }
+        currentKeys.add(hash);
+    }
+
+    long distinctKeys() {
+        return currentKeys.estimateUnion(previousKeys);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
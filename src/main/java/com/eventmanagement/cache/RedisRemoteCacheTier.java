@@ -0,0 +1,114 @@
+// src/main/java/com/eventmanagement/cache/RedisRemoteCacheTier.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.RemoteCacheConfig;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Remote tier on a Redis-protocol server. Each cache is one hash, so clearing it is a single
+ * UNLINK however many entries it holds. Hash fields cannot expire on their own, so every value
+ * is stored behind its expiry time and expired fields are dropped when read; the hash itself
+ * expires once nothing has been written to it for a full TTL.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.remote-cache", name = "enabled", havingValue = "true")
+public class RedisRemoteCacheTier implements RemoteCacheTier {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisRemoteCacheTier.class);
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private RemoteCacheConfig remoteCacheConfig;
+
+    private RedisTemplate<String, byte[]> redisTemplate;
+    private HashOperations<String, String, byte[]> hashOperations;
+
+    public RedisRemoteCacheTier() {
+    }
+
+    RedisRemoteCacheTier(RedisConnectionFactory redisConnectionFactory, RemoteCacheConfig remoteCacheConfig) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.remoteCacheConfig = remoteCacheConfig;
+    }
+
+    @PostConstruct
+    void init() {
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+        hashOperations = redisTemplate.opsForHash();
+    }
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        try {
+            byte[] stored = hashOperations.get(hashKey(cacheName), key);
+            if (stored == null || stored.length < Long.BYTES) {
+                return null;
+            }
+            if (ByteBuffer.wrap(stored).getLong() < System.currentTimeMillis()) {
+                hashOperations.delete(hashKey(cacheName), key);
+                return null;
+            }
+            return Arrays.copyOfRange(stored, Long.BYTES, stored.length);
+        } catch (DataAccessException ex) {
+            logger.warn("Remote cache read failed for {}: {}", cacheName, ex.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        byte[] stored = ByteBuffer.allocate(Long.BYTES + value.length)
+                .putLong(System.currentTimeMillis() + ttl.toMillis())
+                .put(value)
+                .array();
+        try {
+            hashOperations.put(hashKey(cacheName), key, stored);
+            redisTemplate.expire(hashKey(cacheName), ttl);
+        } catch (DataAccessException ex) {
+            logger.warn("Remote cache write failed for {}: {}", cacheName, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        try {
+            hashOperations.delete(hashKey(cacheName), key);
+        } catch (DataAccessException ex) {
+            logger.warn("Remote cache evict failed for {}: {}", cacheName, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        try {
+            redisTemplate.unlink(hashKey(cacheName));
+        } catch (DataAccessException ex) {
+            logger.warn("Remote cache clear failed for {}: {}", cacheName, ex.getMessage());
+        }
+    }
+
+    private String hashKey(String cacheName) {
+        return remoteCacheConfig.getKeyPrefix() + cacheName;
+    }
+}
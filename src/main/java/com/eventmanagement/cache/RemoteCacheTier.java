@@ -0,0 +1,22 @@
+// src/main/java/com/eventmanagement/cache/RemoteCacheTier.java
+package com.eventmanagement.cache;
+
+import java.time.Duration;
+
+/**
+ * Shared second-level cache store holding already encoded values. Implementations treat an
+ * unreachable store as a miss rather than failing the request.
+ */
+public interface RemoteCacheTier {
+
+    /**
+     * @return the stored bytes, or null when absent or expired
+     */
+    byte[] get(String cacheName, String key);
+
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
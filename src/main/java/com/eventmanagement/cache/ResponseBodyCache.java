@@ -0,0 +1,184 @@
+// src/main/java/com/eventmanagement/cache/ResponseBodyCache.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.ResponseCacheConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the encoded JSON of hot response bodies, plain and gzipped, so repeated requests are
+ * answered with the bytes instead of running Jackson again. Each entry remembers the object it
+ * was rendered from and is only used for that very object: the cached DTO returned by the
+ * object caches, or the catalog's memoized page. When those caches evict or replace the object,
+ * the next request renders it again, so entries never outlive the data they encode. The source
+ * is held weakly, so evicted DTOs are not kept alive here.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.response-cache", name = "enabled", havingValue = "true")
+public class ResponseBodyCache {
+
+    static final String CACHE_NAME = "responseBodies";
+    private static final int ENTRY_OVERHEAD = 96;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResponseCacheConfig responseCacheConfig;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, Entry> entries;
+
+    public ResponseBodyCache() {
+    }
+
+    ResponseBodyCache(ObjectMapper objectMapper, ResponseCacheConfig responseCacheConfig) {
+        this.objectMapper = objectMapper;
+        this.responseCacheConfig = responseCacheConfig;
+        init();
+    }
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumWeight(responseCacheConfig.getMaximumWeight().toBytes())
+                .weigher((String key, Entry entry) -> ENTRY_OVERHEAD + 2 * key.length() + entry.json.length + entry.gzip.length)
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+        }
+    }
+
+    /**
+     * Completes the response with the encoded form of {@code source}, rendering and storing it
+     * under {@code key} unless the stored entry was rendered from this same object. Gzip is sent
+     * when the request accepts it. The body's weak ETag is added when {@code weakETag} is set;
+     * callers with a stronger validator set their own. Only JSON is stored: a request preferring
+     * another representation gets {@code source} itself, for the usual content negotiation.
+     */
+    public ResponseEntity<?> respond(HttpServletRequest request, ResponseEntity.BodyBuilder response,
+                                     String key, Object source, boolean weakETag) {
+        if (!prefersJson(request.getHeader(HttpHeaders.ACCEPT))) {
+            return response.body(source);
+        }
+        // The bytes are final and tagged here, so a shallow ETag filter need not buffer a copy;
+        // conditional requests are still answered from the ETag by Spring MVC
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || entry.source.get() != source) {
+            entry = render(source);
+            entries.put(key, entry);
+        }
+        // Added to the caller's Vary values rather than replacing them
+        response.contentType(MediaType.APPLICATION_JSON).headers(headers -> headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+        if (weakETag) {
+            response.eTag(entry.eTag);
+        }
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip);
+        }
+        return response.body(entry.json);
+    }
+
+    private Entry render(Object source) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(source);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode response body of " + source.getClass(), ex);
+        }
+        return new Entry(new WeakReference<>(source), json, gzip(json, responseCacheConfig.getGzipLevel()),
+                "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+    }
+
+    static byte[] gzip(byte[] bytes, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        // Compressed once per rendering, so the slowest level is affordable
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            // Left to the regular path, which rejects it
+            return false;
+        }
+        MediaType preferred = null;
+        for (MediaType mediaType : mediaTypes) {
+            if (preferred == null || mediaType.getQualityValue() > preferred.getQualityValue()) {
+                preferred = mediaType;
+            }
+        }
+        return preferred != null && preferred.getQualityValue() > 0 && preferred.includes(MediaType.APPLICATION_JSON);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private record Entry(WeakReference<Object> source, byte[] json, byte[] gzip, String eTag) {
+    }
+}
@@ -0,0 +1,355 @@
+// src/main/java/com/eventmanagement/cache/TieredCaffeineCacheManager.java
+package com.eventmanagement.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine cache manager with optional extensions, each enabled by passing its collaborator:
+ * <ul>
+ *   <li>a {@link RemoteCacheTier} behind the local caches, read through on a local miss and
+ *   written through on every put, so a freshly started node is served from the shared tier
+ *   instead of the database;</li>
+ *   <li>a {@link CacheInvalidationBus} to which evictions are sent, so the other nodes drop
+ *   their local copies; the invalidations they send are applied here without being echoed;</li>
+ *   <li>stale-while-revalidate for the caches named in
+ *   {@link #setStaleWhileRevalidate(Duration, Collection)}: evicted entries are kept aside for a
+ *   bounded time, and a synchronized get that misses is answered from them while a single
+ *   background load per key replaces them;</li>
+ *   <li>refresh-after-write for caches registered with a refresh interval: a synchronized get
+ *   that hits an entry older than the interval returns it and reloads it in the background.</li>
+ * </ul>
+ * String keys are invalidated individually; other keys have no stable wire form, so evicting
+ * one drops the whole cache on the other nodes. Remote entries are keyed by the key's string
+ * form, and only values the {@link CacheValueCodec} knows are shared.
+ */
+public class TieredCaffeineCacheManager extends CaffeineCacheManager implements CacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredCaffeineCacheManager.class);
+
+    private final CacheInvalidationBus bus;
+    private final RemoteCacheTier remoteTier;
+    private final CacheValueCodec codec;
+    private final Duration remoteTtl;
+    private final Map<String, Duration> refreshIntervals = new ConcurrentHashMap<>();
+    private Duration maxStale;
+    private Set<String> staleCacheNames = Set.of();
+    private Executor refreshExecutor = ForkJoinPool.commonPool();
+
+    public TieredCaffeineCacheManager(CacheInvalidationBus bus, RemoteCacheTier remoteTier,
+                                      CacheValueCodec codec, Duration remoteTtl) {
+        this.bus = bus;
+        this.remoteTier = remoteTier;
+        this.codec = codec;
+        this.remoteTtl = remoteTtl;
+        if (bus != null) {
+            bus.addListener(this);
+        }
+    }
+
+    /**
+     * Must be called before the caches are created, i.e. before {@code setCacheNames}.
+     */
+    public void setStaleWhileRevalidate(Duration maxStale, Collection<String> cacheNames) {
+        this.maxStale = maxStale;
+        this.staleCacheNames = Set.copyOf(cacheNames);
+    }
+
+    /**
+     * Runs stale-while-revalidate and refresh-after-write loads; defaults to the common pool.
+     */
+    public void setRefreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Registers a cache built with its own policy. A non-null {@code refreshAfterWrite} requires
+     * the cache to expire after write, since entry ages are read from that policy.
+     */
+    public void registerCustomCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                    Duration refreshAfterWrite) {
+        if (refreshAfterWrite != null) {
+            if (cache.policy().expireAfterWrite().isEmpty()) {
+                throw new IllegalArgumentException("Cache " + name + " needs expireAfterWrite to refresh after write");
+            }
+            refreshIntervals.put(name, refreshAfterWrite);
+        }
+        registerCustomCache(name, cache);
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new TieredCache(name, cache, isAllowNullValues());
+    }
+
+    @Override
+    public void invalidate(Collection<CacheInvalidation> invalidations) {
+        for (CacheInvalidation invalidation : invalidations) {
+            Cache cache = getCache(invalidation.cache());
+            if (cache instanceof TieredCache tieredCache) {
+                if (invalidation.isWholeCache()) {
+                    tieredCache.clearLocally();
+                } else {
+                    tieredCache.evictLocally(invalidation.key());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (String name : getCacheNames()) {
+            if (getCache(name) instanceof TieredCache tieredCache) {
+                tieredCache.clearLocally();
+            }
+        }
+    }
+
+    private final class TieredCache extends CaffeineCache {
+
+        private final boolean serveStale;
+        private final Duration refreshAfterWrite;
+        private final ConcurrentMap<Object, StaleEntry> stale = new ConcurrentHashMap<>();
+        private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+        private TieredCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+            this.serveStale = maxStale != null && staleCacheNames.contains(name);
+            this.refreshAfterWrite = refreshIntervals.get(name);
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            Object local = super.lookup(key);
+            if (local != null || remoteTier == null) {
+                return local;
+            }
+            RemoteValue remote = readRemote(key);
+            if (remote == null) {
+                return null;
+            }
+            super.put(key, remote.value());
+            return toStoreValue(remote.value());
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            if (serveStale || refreshAfterWrite != null) {
+                Object cached = getNativeCache().getIfPresent(key);
+                if (cached != null) {
+                    if (refreshAfterWrite != null && isRefreshDue(key)) {
+                        // Reload from the source: the shared tier holds a copy of the same age
+                        refreshInBackground(key, () -> {
+                            put(key, valueLoader.call());
+                            return null;
+                        });
+                    }
+                    @SuppressWarnings("unchecked")
+                    T value = (T) fromStoreValue(cached);
+                    return value;
+                }
+                StaleEntry entry = serveStale ? stale.get(key) : null;
+                if (entry != null && System.nanoTime() - entry.deadline < 0) {
+                    refreshInBackground(key, () -> {
+                        try {
+                            return load(key, valueLoader);
+                        } finally {
+                            // Dropped even on failure, so the next caller loads in line
+                            stale.remove(key, entry);
+                        }
+                    });
+                    @SuppressWarnings("unchecked")
+                    T value = (T) fromStoreValue(entry.storeValue);
+                    return value;
+                }
+            }
+            return load(key, valueLoader);
+        }
+
+        private boolean isRefreshDue(Object key) {
+            return getNativeCache().policy().expireAfterWrite()
+                    .map(expiration -> expiration.ageOf(key, TimeUnit.NANOSECONDS))
+                    .filter(age -> age.isPresent() && age.getAsLong() >= refreshAfterWrite.toNanos())
+                    .isPresent();
+        }
+
+        private <T> T load(Object key, Callable<T> valueLoader) {
+            if (remoteTier == null) {
+                return super.get(key, valueLoader);
+            }
+            // Runs inside Caffeine's per-key load, so concurrent misses share one remote read
+            // and at most one database load
+            return super.get(key, () -> {
+                RemoteValue remote = readRemote(key);
+                if (remote != null) {
+                    @SuppressWarnings("unchecked")
+                    T value = (T) remote.value();
+                    return value;
+                }
+                T value = valueLoader.call();
+                writeRemote(key, value);
+                return value;
+            });
+        }
+
+        private void refreshInBackground(Object key, Callable<?> refresh) {
+            if (!refreshing.add(key)) {
+                return;
+            }
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        refresh.call();
+                    } catch (Exception ex) {
+                        logger.warn("Background refresh of cache {} failed", getName(), ex);
+                    } finally {
+                        refreshing.remove(key);
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                refreshing.remove(key);
+            }
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            super.put(key, value);
+            stale.remove(key);
+            writeRemote(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            ValueWrapper existing = super.putIfAbsent(key, value);
+            if (existing == null) {
+                writeRemote(key, value);
+            }
+            return existing;
+        }
+
+        @Override
+        public void evict(Object key) {
+            retainAsStale(key);
+            super.evict(key);
+            evictRemote(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            retainAsStale(key);
+            boolean present = super.evictIfPresent(key);
+            // The shared tier and the other nodes may hold the entry even if this node does not
+            evictRemote(key);
+            return present;
+        }
+
+        @Override
+        public void clear() {
+            retainAllAsStale();
+            super.clear();
+            clearRemote();
+        }
+
+        @Override
+        public boolean invalidate() {
+            // An immediate invalidation is expected to be visible at once, so nothing is kept
+            stale.clear();
+            boolean notEmpty = super.invalidate();
+            clearRemote();
+            return notEmpty;
+        }
+
+        void evictLocally(Object key) {
+            retainAsStale(key);
+            super.evict(key);
+        }
+
+        void clearLocally() {
+            retainAllAsStale();
+            super.clear();
+        }
+
+        private void retainAsStale(Object key) {
+            if (serveStale) {
+                Object storeValue = getNativeCache().getIfPresent(key);
+                if (storeValue != null) {
+                    stale.put(key, new StaleEntry(storeValue, System.nanoTime() + maxStale.toNanos()));
+                }
+            }
+        }
+
+        private void retainAllAsStale() {
+            if (serveStale) {
+                long now = System.nanoTime();
+                stale.values().removeIf(entry -> now - entry.deadline >= 0);
+                long deadline = now + maxStale.toNanos();
+                getNativeCache().asMap().forEach((key, storeValue) -> stale.put(key, new StaleEntry(storeValue, deadline)));
+            }
+        }
+
+        private RemoteValue readRemote(Object key) {
+            byte[] encoded = remoteTier.get(getName(), String.valueOf(key));
+            if (encoded == null) {
+                return null;
+            }
+            try {
+                Object value = codec.decode(encoded);
+                return value == null && !isAllowNullValues() ? null : new RemoteValue(value);
+            } catch (IllegalArgumentException ex) {
+                logger.debug("Ignoring undecodable remote entry in cache {}", getName(), ex);
+                return null;
+            }
+        }
+
+        private void writeRemote(Object key, Object value) {
+            if (remoteTier == null) {
+                return;
+            }
+            byte[] encoded = codec.encode(value);
+            if (encoded != null) {
+                remoteTier.put(getName(), String.valueOf(key), encoded, remoteTtl);
+            }
+        }
+
+        private void evictRemote(Object key) {
+            if (remoteTier != null) {
+                remoteTier.evict(getName(), String.valueOf(key));
+            }
+            if (bus != null) {
+                bus.publish(key instanceof String stringKey
+                        ? new CacheInvalidation(getName(), stringKey)
+                        : CacheInvalidation.all(getName()));
+            }
+        }
+
+        private void clearRemote() {
+            if (remoteTier != null) {
+                remoteTier.clear(getName());
+            }
+            if (bus != null) {
+                bus.publish(CacheInvalidation.all(getName()));
+            }
+        }
+    }
+
+    private record RemoteValue(Object value) {
+    }
+
+    private record StaleEntry(Object storeValue, long deadline) {
+    }
+}
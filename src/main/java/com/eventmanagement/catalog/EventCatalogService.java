@@ -0,0 +1,232 @@
+// src/main/java/com/eventmanagement/catalog/EventCatalogService.java
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.config.CatalogSnapshotConfig;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.DateRangeMode;
+import com.eventmanagement.enums.Visibility;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serves the public event catalog from an in-memory {@link EventCatalogSnapshot}. The snapshot
+ * is loaded on startup and then refreshed from rows whose {@code updated_at} moved past the
+ * last seen value. Callers fall back to the repository whenever this returns empty.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.catalog-snapshot", name = "enabled", havingValue = "true")
+public class EventCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCatalogService.class);
+
+    private static final String SELECT_ROWS =
+            "SELECT e.id, e.title, e.description, e.host_id, u.name AS host_name, e.start_time, e.end_time, " +
+            "e.location, e.latitude, e.longitude, e.visibility, e.deleted_at, e.created_at, e.updated_at " +
+            "FROM events e JOIN users u ON u.id = e.host_id ";
+
+    private static final RowMapper<EventCatalogSnapshot.Row> ROW_MAPPER = (rs, rowNum) -> new EventCatalogSnapshot.Row(
+            rs.getObject("id", UUID.class),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("host_id", UUID.class),
+            rs.getString("host_name"),
+            toLocalDateTime(rs.getTimestamp("start_time")),
+            toLocalDateTime(rs.getTimestamp("end_time")),
+            rs.getString("location"),
+            rs.getObject("latitude", Double.class),
+            rs.getObject("longitude", Double.class),
+            Visibility.valueOf(rs.getString("visibility")),
+            rs.getTimestamp("deleted_at") != null,
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CatalogSnapshotConfig catalogSnapshotConfig;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Cache<Pageable, UpcomingPage> upcomingPages = Caffeine.newBuilder().maximumSize(256).build();
+    private volatile EventCatalogSnapshot snapshot;
+    private volatile long refreshedAtMillis;
+    private long fullRefreshedAtMillis;
+    private LocalDateTime watermark;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (meterRegistry != null) {
+            Gauge.builder("app.catalog.snapshot.events", this, service -> service.snapshot != null ? service.snapshot.size() : 0)
+                    .description("Events held in the in-memory catalog snapshot")
+                    .register(meterRegistry);
+        }
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog-snapshot.refresh-interval:PT2S}",
+            initialDelayString = "${app.catalog-snapshot.refresh-interval:PT2S}")
+    public synchronized void refresh() {
+        long now = System.currentTimeMillis();
+        try {
+            if (fullRefreshedAtMillis == 0
+                    || now - fullRefreshedAtMillis >= catalogSnapshotConfig.getFullRefreshInterval().toMillis()) {
+                loadAll();
+                fullRefreshedAtMillis = now;
+            } else if (snapshot != null) {
+                applyChanges();
+            }
+            refreshedAtMillis = now;
+        } catch (DataAccessException ex) {
+            logger.error("Event catalog refresh failed", ex);
+        }
+    }
+
+    public Optional<PagedResponse<EventResponse>> findPublicEvents(String title, String location,
+                                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                                  DateRangeMode dateMode, UUID hostId,
+                                                                  Pageable pageable) {
+        Boolean descending = startTimeDirection(pageable.getSort());
+        if (descending == null) {
+            return miss();
+        }
+        return find(new EventCatalogSnapshot.CatalogQuery(title, location, startDate, endDate, dateMode, hostId, null,
+                descending), pageable);
+    }
+
+    /**
+     * Upcoming pages only change with the snapshot or as events start, so a page built from the
+     * same snapshot within the same second is returned again, as the same object.
+     */
+    public Optional<PagedResponse<EventResponse>> findUpcomingEvents(LocalDateTime now, Pageable pageable) {
+        EventCatalogSnapshot current = freshSnapshot();
+        if (current == null) {
+            return miss();
+        }
+        count("hit");
+        LocalDateTime second = now.truncatedTo(ChronoUnit.SECONDS);
+        UpcomingPage page = upcomingPages.getIfPresent(pageable);
+        if (page == null || page.snapshot() != current || !page.second().equals(second)) {
+            page = new UpcomingPage(current, second, current.find(
+                    new EventCatalogSnapshot.CatalogQuery(null, null, null, null, null, null, now, false),
+                    pageable.getPageNumber(), pageable.getPageSize()));
+            upcomingPages.put(pageable, page);
+        }
+        return Optional.of(page.response());
+    }
+
+    private Optional<PagedResponse<EventResponse>> find(EventCatalogSnapshot.CatalogQuery query, Pageable pageable) {
+        EventCatalogSnapshot current = freshSnapshot();
+        if (current == null) {
+            return miss();
+        }
+        count("hit");
+        return Optional.of(current.find(query, pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    private EventCatalogSnapshot freshSnapshot() {
+        EventCatalogSnapshot current = snapshot;
+        if (current == null
+                || System.currentTimeMillis() - refreshedAtMillis > catalogSnapshotConfig.getMaxStaleness().toMillis()) {
+            return null;
+        }
+        return current;
+    }
+
+    private Optional<PagedResponse<EventResponse>> miss() {
+        count("miss");
+        return Optional.empty();
+    }
+
+    private void count(String result) {
+        if (meterRegistry != null) {
+            Counter.builder("app.catalog.snapshot.requests").tag("result", result).register(meterRegistry).increment();
+        }
+    }
+
+    // Only start time ordering is kept by the snapshot; null means the sort is not supported
+    private static Boolean startTimeDirection(Sort sort) {
+        if (sort.isUnsorted()) {
+            return false;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !orders.get(0).getProperty().equals("startTime")) {
+            return null;
+        }
+        return orders.get(0).isDescending();
+    }
+
+    private void loadAll() {
+        // Read before the rows so that changes committed during the load are picked up next time
+        Timestamp latestUpdate = jdbcTemplate.queryForObject("SELECT max(updated_at) FROM events", Timestamp.class);
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM events WHERE visibility = 'PUBLIC' AND deleted_at IS NULL", Integer.class);
+        if (count != null && count > catalogSnapshotConfig.getMaxEvents()) {
+            logger.warn("Event catalog has {} public events, above the snapshot limit of {}; serving from the database",
+                    count, catalogSnapshotConfig.getMaxEvents());
+            snapshot = null;
+            return;
+        }
+        List<EventCatalogSnapshot.Row> rows = jdbcTemplate.query(SELECT_ROWS +
+                "WHERE e.visibility = 'PUBLIC' AND e.deleted_at IS NULL", ROW_MAPPER);
+        snapshot = EventCatalogSnapshot.of(rows);
+        watermark = toLocalDateTime(latestUpdate);
+        logger.info("Loaded {} public events into the catalog snapshot", rows.size());
+    }
+
+    private void applyChanges() {
+        // Re-read an overlap window so that commits which landed with an older updated_at
+        // than the last seen row are not missed; unchanged rows are skipped by the merge
+        LocalDateTime since = watermark != null
+                ? watermark.minus(catalogSnapshotConfig.getChangeOverlap())
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+        List<EventCatalogSnapshot.Row> changes = jdbcTemplate.query(SELECT_ROWS + "WHERE e.updated_at >= ?",
+                ROW_MAPPER, Timestamp.valueOf(since));
+        if (!changes.isEmpty()) {
+            snapshot = snapshot.withChanges(changes);
+            watermark = maxUpdatedAt(changes, watermark);
+        }
+    }
+
+    private static LocalDateTime maxUpdatedAt(List<EventCatalogSnapshot.Row> rows, LocalDateTime current) {
+        LocalDateTime max = current;
+        for (EventCatalogSnapshot.Row row : rows) {
+            if (row.updatedAt() != null && (max == null || row.updatedAt().isAfter(max))) {
+                max = row.updatedAt();
+            }
+        }
+        return max;
+    }
+
+    private record UpcomingPage(EventCatalogSnapshot snapshot, LocalDateTime second, PagedResponse<EventResponse> response) {
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,386 @@
+// src/main/java/com/eventmanagement/catalog/EventCatalogSnapshot.java
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.DateRangeMode;
+import com.eventmanagement.enums.Visibility;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable, column-oriented copy of the active public events, sorted by start time.
+ * Locations and hosts are dictionary-encoded so that filters on them are evaluated once per
+ * distinct value instead of once per row. Overlap queries go through an {@link IntervalTree}
+ * so that long-running events starting before the window are found without a full scan.
+ */
+public final class EventCatalogSnapshot {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private final long[] idMostSigBits;
+    private final long[] idLeastSigBits;
+    private final long[] startTimes;
+    private final long[] endTimes;
+    private final long[] createdAts;
+    private final long[] updatedAts;
+    private final String[] titles;
+    private final String[] lowerCaseTitles;
+    private final String[] descriptions;
+    private final int[] locationRefs;
+    private final String[] locations;
+    private final String[] lowerCaseLocations;
+    // NaN where the event has no coordinates
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] hostRefs;
+    private final UUID[] hostIds;
+    private final String[] hostNames;
+    // Row numbers ordered by id, for point lookups while merging changes
+    private final int[] idOrder;
+    private final IntervalTree periods;
+
+    private EventCatalogSnapshot(List<Row> rows) {
+        int size = rows.size();
+        idMostSigBits = new long[size];
+        idLeastSigBits = new long[size];
+        startTimes = new long[size];
+        endTimes = new long[size];
+        createdAts = new long[size];
+        updatedAts = new long[size];
+        titles = new String[size];
+        lowerCaseTitles = new String[size];
+        descriptions = new String[size];
+        locationRefs = new int[size];
+        hostRefs = new int[size];
+        latitudes = new double[size];
+        longitudes = new double[size];
+
+        Map<String, Integer> locationDictionary = new HashMap<>();
+        Map<UUID, Integer> hostDictionary = new HashMap<>();
+        List<String> hostNameList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Row row = rows.get(i);
+            idMostSigBits[i] = row.id().getMostSignificantBits();
+            idLeastSigBits[i] = row.id().getLeastSignificantBits();
+            startTimes[i] = encode(row.startTime());
+            endTimes[i] = encode(row.endTime());
+            createdAts[i] = encode(row.createdAt());
+            updatedAts[i] = encode(row.updatedAt());
+            titles[i] = row.title();
+            lowerCaseTitles[i] = row.title().toLowerCase(Locale.ROOT);
+            descriptions[i] = row.description();
+            latitudes[i] = row.latitude() != null ? row.latitude() : Double.NaN;
+            longitudes[i] = row.longitude() != null ? row.longitude() : Double.NaN;
+            locationRefs[i] = locationDictionary.computeIfAbsent(row.location(), key -> locationDictionary.size());
+            Integer hostRef = hostDictionary.putIfAbsent(row.hostId(), hostDictionary.size());
+            if (hostRef == null) {
+                hostRef = hostDictionary.size() - 1;
+                hostNameList.add(row.hostName());
+            }
+            hostRefs[i] = hostRef;
+        }
+
+        locations = new String[locationDictionary.size()];
+        locationDictionary.forEach((location, ref) -> locations[ref] = location);
+        lowerCaseLocations = Arrays.stream(locations).map(location -> location.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+        hostIds = new UUID[hostDictionary.size()];
+        hostDictionary.forEach((hostId, ref) -> hostIds[ref] = hostId);
+        hostNames = hostNameList.toArray(String[]::new);
+
+        idOrder = new int[size];
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> compareIds(idMostSigBits[a], idLeastSigBits[a], idMostSigBits[b], idLeastSigBits[b]));
+        for (int i = 0; i < size; i++) {
+            idOrder[i] = boxed[i];
+        }
+        periods = new IntervalTree(endTimes);
+    }
+
+    static EventCatalogSnapshot of(Collection<Row> rows) {
+        List<Row> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(Row::startTime).thenComparing(Row::id));
+        return new EventCatalogSnapshot(sorted);
+    }
+
+    /**
+     * Returns a new snapshot with the given changes applied. Rows that are no longer public
+     * or have been soft-deleted are removed; the receiver is left untouched.
+     */
+    EventCatalogSnapshot withChanges(Collection<Row> changes) {
+        Map<UUID, Row> changed = new HashMap<>();
+        for (Row row : changes) {
+            int index = indexOf(row.id());
+            boolean present = index >= 0;
+            if (row.isCatalogued() ? !present || updatedAts[index] != encode(row.updatedAt()) : present) {
+                changed.put(row.id(), row);
+            }
+        }
+        if (changed.isEmpty()) {
+            return this;
+        }
+
+        List<Row> rows = new ArrayList<>(size() + changed.size());
+        Set<UUID> replaced = new HashSet<>();
+        for (int i = 0; i < size(); i++) {
+            UUID id = new UUID(idMostSigBits[i], idLeastSigBits[i]);
+            Row change = changed.get(id);
+            if (change == null) {
+                rows.add(row(i));
+            } else if (replaced.add(id) && change.isCatalogued()) {
+                rows.add(change);
+            }
+        }
+        changed.values().stream()
+                .filter(row -> !replaced.contains(row.id()) && row.isCatalogued())
+                .forEach(rows::add);
+        return of(rows);
+    }
+
+    public int size() {
+        return startTimes.length;
+    }
+
+    public PagedResponse<EventResponse> find(CatalogQuery query, int page, int pageSize) {
+        boolean overlaps = query.dateMode() == DateRangeMode.OVERLAPS;
+        int from;
+        int to;
+        long endLimit = Long.MAX_VALUE;
+        long endAfter = Long.MIN_VALUE;
+        if (overlaps) {
+            // Events overlapping [startDate, endDate] start by endDate and end after startDate
+            from = 0;
+            to = query.endDate() != null ? upperBound(encode(query.endDate())) : size();
+            if (query.startDate() != null) {
+                endAfter = encode(query.startDate());
+            }
+        } else {
+            from = query.startDate() != null ? lowerBound(encode(query.startDate())) : 0;
+            // end_time > start_time, so endTime <= endDate also bounds the start time
+            to = query.endDate() != null ? lowerBound(encode(query.endDate())) : size();
+            if (query.endDate() != null) {
+                endLimit = encode(query.endDate());
+            }
+        }
+        if (query.after() != null) {
+            from = Math.max(from, upperBound(encode(query.after())));
+        }
+
+        boolean[] locationMatches = matchingLocations(query.location());
+        int hostRef = query.hostId() != null ? hostRef(query.hostId()) : -1;
+        if (query.hostId() != null && hostRef < 0) {
+            return new PagedResponse<>(List.of(), page, pageSize, 0, 0);
+        }
+        String title = query.title() != null ? query.title().toLowerCase(Locale.ROOT) : null;
+
+        PageCollector collector = new PageCollector((long) page * pageSize, pageSize,
+                locationMatches, hostRef, title, endLimit, endAfter);
+        boolean rangeOnly = locationMatches == null && hostRef < 0 && title == null
+                && endLimit == Long.MAX_VALUE && endAfter == Long.MIN_VALUE;
+        if (rangeOnly) {
+            // Every row in the range matches, so the page can be sliced without scanning
+            collector.matched = Math.max(to - from, 0);
+            for (long n = collector.offset; n < collector.matched && collector.content.size() < pageSize; n++) {
+                collector.content.add(toResponse(query.descending() ? to - 1 - (int) n : from + (int) n));
+            }
+        } else if (endAfter != Long.MIN_VALUE) {
+            periods.forEachEndingAfter(from, to, endAfter, query.descending(), collector);
+        } else {
+            for (int n = from; n < to; n++) {
+                collector.accept(query.descending() ? to - 1 - (n - from) : n);
+            }
+        }
+
+        long matched = collector.matched;
+        int totalPages = pageSize == 0 ? 0 : (int) ((matched + pageSize - 1) / pageSize);
+        return new PagedResponse<>(collector.content, page, pageSize, matched, totalPages);
+    }
+
+    // Applies the per-row filters and keeps the rows that fall on the requested page
+    private final class PageCollector implements IntConsumer {
+
+        private final long offset;
+        private final int pageSize;
+        private final boolean[] locationMatches;
+        private final int hostRef;
+        private final String title;
+        private final long endLimit;
+        private final long endAfter;
+        private final List<EventResponse> content;
+        private long matched;
+
+        private PageCollector(long offset, int pageSize, boolean[] locationMatches, int hostRef, String title,
+                              long endLimit, long endAfter) {
+            this.offset = offset;
+            this.pageSize = pageSize;
+            this.locationMatches = locationMatches;
+            this.hostRef = hostRef;
+            this.title = title;
+            this.endLimit = endLimit;
+            this.endAfter = endAfter;
+            this.content = new ArrayList<>(Math.min(pageSize, size()));
+        }
+
+        @Override
+        public void accept(int i) {
+            if (endTimes[i] > endLimit
+                    || endTimes[i] <= endAfter
+                    || (locationMatches != null && !locationMatches[locationRefs[i]])
+                    || (hostRef >= 0 && hostRefs[i] != hostRef)
+                    || (title != null && !lowerCaseTitles[i].contains(title))) {
+                return;
+            }
+            if (matched >= offset && content.size() < pageSize) {
+                content.add(toResponse(i));
+            }
+            matched++;
+        }
+    }
+
+    private boolean[] matchingLocations(String location) {
+        if (location == null) {
+            return null;
+        }
+        String needle = location.toLowerCase(Locale.ROOT);
+        boolean[] matches = new boolean[lowerCaseLocations.length];
+        for (int ref = 0; ref < lowerCaseLocations.length; ref++) {
+            matches[ref] = lowerCaseLocations[ref].contains(needle);
+        }
+        return matches;
+    }
+
+    private int hostRef(UUID hostId) {
+        for (int ref = 0; ref < hostIds.length; ref++) {
+            if (hostIds[ref].equals(hostId)) {
+                return ref;
+            }
+        }
+        return -1;
+    }
+
+    // First row with startTime >= value
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startTimes[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First row with startTime > value
+    private int upperBound(long value) {
+        return value == Long.MAX_VALUE ? size() : lowerBound(value + 1);
+    }
+
+    int indexOf(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int low = 0;
+        int high = idOrder.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int row = idOrder[mid];
+            int cmp = compareIds(idMostSigBits[row], idLeastSigBits[row], msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private Row row(int i) {
+        return new Row(new UUID(idMostSigBits[i], idLeastSigBits[i]), titles[i], descriptions[i],
+                hostIds[hostRefs[i]], hostNames[hostRefs[i]], decode(startTimes[i]), decode(endTimes[i]),
+                locations[locationRefs[i]], coordinate(latitudes[i]), coordinate(longitudes[i]), Visibility.PUBLIC,
+                false, decode(createdAts[i]), decode(updatedAts[i]));
+    }
+
+    private EventResponse toResponse(int i) {
+        EventResponse response = new EventResponse();
+        response.setId(new UUID(idMostSigBits[i], idLeastSigBits[i]));
+        response.setTitle(titles[i]);
+        response.setDescription(descriptions[i]);
+        response.setHostId(hostIds[hostRefs[i]]);
+        response.setHostName(hostNames[hostRefs[i]]);
+        response.setStartTime(decode(startTimes[i]));
+        response.setEndTime(decode(endTimes[i]));
+        response.setLocation(locations[locationRefs[i]]);
+        response.setLatitude(coordinate(latitudes[i]));
+        response.setLongitude(coordinate(longitudes[i]));
+        response.setVisibility(Visibility.PUBLIC);
+        response.setCreatedAt(decode(createdAts[i]));
+        response.setUpdatedAt(decode(updatedAts[i]));
+        return response;
+    }
+
+    private static Double coordinate(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static int compareIds(long msbA, long lsbA, long msbB, long lsbB) {
+        int cmp = Long.compare(msbA, msbB);
+        return cmp != 0 ? cmp : Long.compare(lsbA, lsbB);
+    }
+
+    // Microseconds since the epoch, matching PostgreSQL timestamp precision
+    static long encode(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_TIME;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime decode(long value) {
+        if (value == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(value, 1_000_000L),
+                (int) Math.floorMod(value, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    record Row(UUID id, String title, String description, UUID hostId, String hostName,
+               LocalDateTime startTime, LocalDateTime endTime, String location, Double latitude, Double longitude,
+               Visibility visibility,
+               boolean deleted, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        boolean isCatalogued() {
+            return visibility == Visibility.PUBLIC && !deleted;
+        }
+    }
+
+    /**
+     * Filters supported by the snapshot. {@code dateMode} selects whether events must lie within
+     * or merely overlap [startDate, endDate]; a null mode means within. {@code after} is an
+     * exclusive lower bound on the start time, as used by the upcoming events listing.
+     */
+    public record CatalogQuery(String title, String location, LocalDateTime startDate, LocalDateTime endDate,
+                               DateRangeMode dateMode, UUID hostId, LocalDateTime after, boolean descending) {
+    }
+}
@@ -0,0 +1,62 @@
+// src/main/java/com/eventmanagement/catalog/IntervalTree.java
+package com.eventmanagement.catalog;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Augmented interval tree over intervals already sorted by start. The tree is implicit: the
+ * node for the index range [lo, hi) is its midpoint, and each node records the largest end in
+ * its range, so subtrees whose intervals all end too early are skipped without being visited.
+ */
+final class IntervalTree {
+
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    IntervalTree(long[] endsInStartOrder) {
+        this.ends = endsInStartOrder;
+        this.maxEnds = new long[endsInStartOrder.length];
+        build(0, ends.length);
+    }
+
+    private long build(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(build(lo, mid), build(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    /**
+     * Visits, in start order, every index in [from, to) whose interval ends after {@code endAfter}.
+     * Restricting the index range applies the bound on start times.
+     */
+    void forEachEndingAfter(int from, int to, long endAfter, boolean descending, IntConsumer visitor) {
+        visit(0, ends.length, from, to, endAfter, descending, visitor);
+    }
+
+    private void visit(int lo, int hi, int from, int to, long endAfter, boolean descending, IntConsumer visitor) {
+        if (lo >= hi || hi <= from || lo >= to) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] <= endAfter) {
+            return;
+        }
+        if (descending) {
+            visit(mid + 1, hi, from, to, endAfter, true, visitor);
+        } else {
+            visit(lo, mid, from, to, endAfter, false, visitor);
+        }
+        if (mid >= from && mid < to && ends[mid] > endAfter) {
+            visitor.accept(mid);
+        }
+        if (descending) {
+            visit(lo, mid, from, to, endAfter, true, visitor);
+        } else {
+            visit(mid + 1, hi, from, to, endAfter, false, visitor);
+        }
+    }
+}
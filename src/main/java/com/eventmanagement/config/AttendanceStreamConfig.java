@@ -0,0 +1,25 @@
+// src/main/java/com/eventmanagement/config/AttendanceStreamConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.attendance-stream")
+public class AttendanceStreamConfig {
+
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+    private int senderThreads = 4;
+
+    public Duration getFlushInterval() { return flushInterval; }
+    public void setFlushInterval(Duration flushInterval) { this.flushInterval = flushInterval; }
+
+    public Duration getEmitterTimeout() { return emitterTimeout; }
+    public void setEmitterTimeout(Duration emitterTimeout) { this.emitterTimeout = emitterTimeout; }
+
+    public int getSenderThreads() { return senderThreads; }
+    public void setSenderThreads(int senderThreads) { this.senderThreads = senderThreads; }
+}
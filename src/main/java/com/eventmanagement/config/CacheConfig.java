@@ -1,7 +1,20 @@
 // src/main/java/com/eventmanagement/config/CacheConfig.java
 package com.eventmanagement.config;
 
+import com.eventmanagement.cache.CacheEntryWeigher;
+import com.eventmanagement.cache.CacheInvalidationBus;
+import com.eventmanagement.cache.CacheValueCodec;
+import com.eventmanagement.cache.RemoteCacheTier;
+import com.eventmanagement.cache.TieredCaffeineCacheManager;
+import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -9,23 +22,93 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    public static final List<String> CACHE_NAMES = List.of("events", "eventSearch", "upcomingEvents", "userPrincipals");
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    @Autowired
+    private RemoteCacheConfig remoteCacheConfig;
+
+    @Autowired(required = false)
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired(required = false)
+    private RemoteCacheTier remoteCacheTier;
+
+    @Autowired
+    private CacheRefreshConfig cacheRefreshConfig;
+
+    @Autowired
+    private CachePolicyConfig cachePolicyConfig;
+
+    @Autowired(required = false)
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
     @Bean
     @Primary
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .recordStats());
+        TieredCaffeineCacheManager cacheManager = new TieredCaffeineCacheManager(
+                cacheInvalidationBus, remoteCacheTier, cacheValueCodec(), remoteCacheConfig.getTtl());
+        cacheManager.setRefreshExecutor(applicationTaskExecutor != null ? applicationTaskExecutor : ForkJoinPool.commonPool());
+        if (cacheRefreshConfig.isStaleWhileRevalidate()) {
+            cacheManager.setStaleWhileRevalidate(cacheRefreshConfig.getMaxStale(), cacheRefreshConfig.getCaches());
+        }
+        // Only the caches registered below exist; they are created up front so their stats are
+        // bound to the meter registry at startup
+        cacheManager.setCacheNames(List.of());
+        Set<String> cacheNames = new LinkedHashSet<>(CACHE_NAMES);
+        cacheNames.addAll(cachePolicyConfig.getCaches().keySet());
+        long totalWeight = 0;
+        for (String name : cacheNames) {
+            CachePolicyConfig.Policy policy = cachePolicyConfig.getCaches().getOrDefault(name, new CachePolicyConfig.Policy());
+            cacheManager.registerCustomCache(name, buildCache(policy).build(), policy.getRefreshAfterWrite());
+            if (policy.getMaximumWeight() != null) {
+                totalWeight += policy.getMaximumWeight().toBytes();
+            }
+        }
+        logger.info("Caches {} bounded to about {} MB of heap by weight", cacheNames, totalWeight / (1024 * 1024));
         return cacheManager;
     }
 
+    private Caffeine<Object, Object> buildCache(CachePolicyConfig.Policy policy) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (policy.getMaximumWeight() != null) {
+            builder.maximumWeight(policy.getMaximumWeight().toBytes()).weigher(new CacheEntryWeigher());
+        } else {
+            builder.maximumSize(policy.getMaximumSize() != null ? policy.getMaximumSize() : DEFAULT_MAXIMUM_SIZE);
+        }
+        Duration expireAfterWrite = policy.getExpireAfterWrite();
+        if (remoteCacheTier != null && remoteCacheConfig.getLocalTtl().compareTo(expireAfterWrite) < 0) {
+            // With a shared tier behind it the local copy only needs to absorb hot keys
+            expireAfterWrite = remoteCacheConfig.getLocalTtl();
+        }
+        return builder.expireAfterWrite(expireAfterWrite);
+    }
+
+    @Bean
+    public CacheValueCodec cacheValueCodec() {
+        // Tags are persisted in the remote tier; never reuse one for a different type
+        return new CacheValueCodec()
+                .register(1, EventDetailResponse.class)
+                .register(2, new TypeReference<PagedResponse<EventResponse>>() { }, value ->
+                        value instanceof PagedResponse<?> page
+                                && page.getContent().stream().allMatch(EventResponse.class::isInstance));
+    }
+
     @Bean("tokenBlacklistCacheManager")
     public CacheManager tokenBlacklistCacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager("tokenBlacklist");
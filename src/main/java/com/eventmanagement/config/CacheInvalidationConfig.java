@@ -0,0 +1,29 @@
+// src/main/java/com/eventmanagement/config/CacheInvalidationConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+public class CacheInvalidationConfig {
+
+    private boolean enabled;
+    private String channel = "cache_invalidation";
+    private Duration pollTimeout = Duration.ofMillis(500);
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getChannel() { return channel; }
+    public void setChannel(String channel) { this.channel = channel; }
+
+    public Duration getPollTimeout() { return pollTimeout; }
+    public void setPollTimeout(Duration pollTimeout) { this.pollTimeout = pollTimeout; }
+
+    public Duration getReconnectDelay() { return reconnectDelay; }
+    public void setReconnectDelay(Duration reconnectDelay) { this.reconnectDelay = reconnectDelay; }
+}
@@ -0,0 +1,40 @@
+// src/main/java/com/eventmanagement/config/CachePolicyConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache-policy")
+public class CachePolicyConfig {
+
+    private Map<String, Policy> caches = new LinkedHashMap<>();
+
+    public Map<String, Policy> getCaches() { return caches; }
+    public void setCaches(Map<String, Policy> caches) { this.caches = caches; }
+
+    public static class Policy {
+
+        private Long maximumSize;
+        private DataSize maximumWeight;
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        private Duration refreshAfterWrite;
+
+        public Long getMaximumSize() { return maximumSize; }
+        public void setMaximumSize(Long maximumSize) { this.maximumSize = maximumSize; }
+
+        public DataSize getMaximumWeight() { return maximumWeight; }
+        public void setMaximumWeight(DataSize maximumWeight) { this.maximumWeight = maximumWeight; }
+
+        public Duration getExpireAfterWrite() { return expireAfterWrite; }
+        public void setExpireAfterWrite(Duration expireAfterWrite) { this.expireAfterWrite = expireAfterWrite; }
+
+        public Duration getRefreshAfterWrite() { return refreshAfterWrite; }
+        public void setRefreshAfterWrite(Duration refreshAfterWrite) { this.refreshAfterWrite = refreshAfterWrite; }
+    }
+}
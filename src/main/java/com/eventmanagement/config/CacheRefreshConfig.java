@@ -0,0 +1,27 @@
+// src/main/java/com/eventmanagement/config/CacheRefreshConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache-refresh")
+public class CacheRefreshConfig {
+
+    private boolean staleWhileRevalidate;
+    private Duration maxStale = Duration.ofSeconds(30);
+    private List<String> caches = new ArrayList<>(List.of("events", "eventSearch", "upcomingEvents"));
+
+    public boolean isStaleWhileRevalidate() { return staleWhileRevalidate; }
+    public void setStaleWhileRevalidate(boolean staleWhileRevalidate) { this.staleWhileRevalidate = staleWhileRevalidate; }
+
+    public Duration getMaxStale() { return maxStale; }
+    public void setMaxStale(Duration maxStale) { this.maxStale = maxStale; }
+
+    public List<String> getCaches() { return caches; }
+    public void setCaches(List<String> caches) { this.caches = caches; }
+}
@@ -0,0 +1,45 @@
+// src/main/java/com/eventmanagement/config/CacheWarmupConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache-warmup")
+public class CacheWarmupConfig {
+
+    private boolean enabled;
+    private int upcomingPages = 3;
+    private int upcomingPageSize = 10;
+    private int topEvents = 50;
+    private Duration timeout = Duration.ofSeconds(30);
+    private Duration decayInterval = Duration.ofHours(1);
+    private int sketchDepth = 4;
+    private int sketchWidth = 4096;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getUpcomingPages() { return upcomingPages; }
+    public void setUpcomingPages(int upcomingPages) { this.upcomingPages = upcomingPages; }
+
+    public int getUpcomingPageSize() { return upcomingPageSize; }
+    public void setUpcomingPageSize(int upcomingPageSize) { this.upcomingPageSize = upcomingPageSize; }
+
+    public int getTopEvents() { return topEvents; }
+    public void setTopEvents(int topEvents) { this.topEvents = topEvents; }
+
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+    public Duration getDecayInterval() { return decayInterval; }
+    public void setDecayInterval(Duration decayInterval) { this.decayInterval = decayInterval; }
+
+    public int getSketchDepth() { return sketchDepth; }
+    public void setSketchDepth(int sketchDepth) { this.sketchDepth = sketchDepth; }
+
+    public int getSketchWidth() { return sketchWidth; }
+    public void setSketchWidth(int sketchWidth) { this.sketchWidth = sketchWidth; }
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/eventmanagement/config/CatalogSnapshotConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.catalog-snapshot")
+public class CatalogSnapshotConfig {
+
+    private boolean enabled;
+    private Duration refreshInterval = Duration.ofSeconds(2);
+    private Duration fullRefreshInterval = Duration.ofHours(1);
+    private Duration changeOverlap = Duration.ofSeconds(10);
+    private Duration maxStaleness = Duration.ofSeconds(30);
+    private int maxEvents = 500_000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getRefreshInterval() { return refreshInterval; }
+    public void setRefreshInterval(Duration refreshInterval) { this.refreshInterval = refreshInterval; }
+
+    public Duration getFullRefreshInterval() { return fullRefreshInterval; }
+    public void setFullRefreshInterval(Duration fullRefreshInterval) { this.fullRefreshInterval = fullRefreshInterval; }
+
+    public Duration getChangeOverlap() { return changeOverlap; }
+    public void setChangeOverlap(Duration changeOverlap) { this.changeOverlap = changeOverlap; }
+
+    public Duration getMaxStaleness() { return maxStaleness; }
+    public void setMaxStaleness(Duration maxStaleness) { this.maxStaleness = maxStaleness; }
+
+    public int getMaxEvents() { return maxEvents; }
+    public void setMaxEvents(int maxEvents) { this.maxEvents = maxEvents; }
+}
@@ -0,0 +1,21 @@
+// src/main/java/com/eventmanagement/config/DateRangeModeConverter.java
+package com.eventmanagement.config;
+
+import com.eventmanagement.enums.DateRangeMode;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Accepts the {@code dateMode} request parameter in any case, so that both
+ * {@code overlaps} and {@code OVERLAPS} select {@link DateRangeMode#OVERLAPS}.
+ */
+@Component
+public class DateRangeModeConverter implements Converter<String, DateRangeMode> {
+
+    @Override
+    public DateRangeMode convert(String source) {
+        return DateRangeMode.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
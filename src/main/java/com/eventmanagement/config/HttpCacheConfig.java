@@ -0,0 +1,49 @@
+// src/main/java/com/eventmanagement/config/HttpCacheConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheConfig {
+
+    private Duration publicMaxAge = Duration.ofSeconds(30);
+    private Duration publicStaleWhileRevalidate = Duration.ofSeconds(30);
+
+    // Weak ETags for the listings, hashed from the rendered body: it saves the transfer, not the
+    // work. Only exact paths are mapped, since buffering would break the attendance stream.
+    // Responses from ResponseBodyCache come tagged and opt out of the buffering.
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listingETagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/events", "/api/events/upcoming", "/api/events/nearby",
+                "/api/events/my-events", "/api/events/attending");
+        return registration;
+    }
+
+    /**
+     * Listings that are the same for every anonymous caller may be kept by shared caches such as
+     * a CDN; anything else may only be kept by the client, and must be revalidated.
+     */
+    public CacheControl listingCacheControl(boolean shared) {
+        if (!shared) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        return CacheControl.maxAge(publicMaxAge).cachePublic().staleWhileRevalidate(publicStaleWhileRevalidate);
+    }
+
+    public Duration getPublicMaxAge() { return publicMaxAge; }
+    public void setPublicMaxAge(Duration publicMaxAge) { this.publicMaxAge = publicMaxAge; }
+
+    public Duration getPublicStaleWhileRevalidate() { return publicStaleWhileRevalidate; }
+    public void setPublicStaleWhileRevalidate(Duration publicStaleWhileRevalidate) { this.publicStaleWhileRevalidate = publicStaleWhileRevalidate; }
+}
@@ -0,0 +1,85 @@
+// src/main/java/com/eventmanagement/config/MetricsConfig.java
+package com.eventmanagement.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "app.service";
+    public static final String REPOSITORY_TIMER = "spring.data.repository.invocations";
+    public static final String JWT_FILTER_TIMER = "app.security.jwt.filter";
+
+    private static final Set<String> CLIENT_ERRORS = Set.of(
+            "BadRequestException",
+            "ResourceNotFoundException",
+            "UnauthorizedException",
+            "AccessDeniedException",
+            "BadCredentialsException"
+    );
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry, MetricsConfig::serviceTags);
+    }
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return invocation -> Tags.of(defaults.repositoryTags(invocation))
+                .and("endpoint", currentEndpoint());
+    }
+
+    @Bean
+    public MeterFilter outcomeMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!SERVICE_TIMER.equals(id.getName()) && !REPOSITORY_TIMER.equals(id.getName())) {
+                    return id;
+                }
+                return id.withTag(Tag.of("outcome", outcome(id.getTag("exception"))));
+            }
+        };
+    }
+
+    public static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "none";
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : "none";
+    }
+
+    static String outcome(String exception) {
+        if (exception == null || "none".equals(exception) || "None".equals(exception)) {
+            return "SUCCESS";
+        }
+        return CLIENT_ERRORS.contains(exception) ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+
+    private static Iterable<Tag> serviceTags(ProceedingJoinPoint pjp) {
+        return Tags.of(
+                "class", pjp.getStaticPart().getSignature().getDeclaringType().getSimpleName(),
+                "method", pjp.getStaticPart().getSignature().getName(),
+                "endpoint", currentEndpoint()
+        );
+    }
+}
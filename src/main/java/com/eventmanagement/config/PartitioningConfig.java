@@ -0,0 +1,29 @@
+// src/main/java/com/eventmanagement/config/PartitioningConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "app.partitioning")
+public class PartitioningConfig {
+
+    private boolean enabled;
+    private int monthsAhead = 3;
+    private boolean archiveEnabled = true;
+    private int retainMonths = 24;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMonthsAhead() { return monthsAhead; }
+    public void setMonthsAhead(int monthsAhead) { this.monthsAhead = monthsAhead; }
+
+    public boolean isArchiveEnabled() { return archiveEnabled; }
+    public void setArchiveEnabled(boolean archiveEnabled) { this.archiveEnabled = archiveEnabled; }
+
+    public int getRetainMonths() { return retainMonths; }
+    public void setRetainMonths(int retainMonths) { this.retainMonths = retainMonths; }
+}
@@ -0,0 +1,53 @@
+// src/main/java/com/eventmanagement/config/PeriodFunctionContributor.java
+package com.eventmanagement.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * HQL predicates over an event's [start, end) period and an inclusive [from, to] window, where a
+ * null bound is unbounded. On PostgreSQL they render as tsrange operators matching the
+ * idx_events_period GiST index, plus the implied start time bounds so that monthly partitions
+ * can still be pruned; other databases get the equivalent comparisons.
+ * Registered through META-INF/services.
+ */
+public class PeriodFunctionContributor implements FunctionContributor {
+
+    public static final String PERIOD_WITHIN = "period_within";
+    public static final String PERIOD_OVERLAPS = "period_overlaps";
+
+    // Each use of a bound is a separate JDBC parameter and pgjdbc sends timestamps untyped, so
+    // PostgreSQL cannot infer one that only appears in "is null"
+    private static final String FROM = "cast(?3 as timestamp)";
+    private static final String TO = "cast(?4 as timestamp)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        boolean postgres = functionContributions.getDialect() instanceof PostgreSQLDialect;
+
+        register(functionContributions, PERIOD_WITHIN, postgres
+                ? "(tsrange(?1, ?2, '[)') <@ tsrange(" + FROM + ", " + TO + ", '[]') " +
+                        "and (" + FROM + " is null or ?1 >= " + FROM + ") and (" + TO + " is null or ?1 <= " + TO + "))"
+                : "((?3 is null or ?1 >= ?3) and (?4 is null or ?2 <= ?4))");
+        register(functionContributions, PERIOD_OVERLAPS, postgres
+                ? "(tsrange(?1, ?2, '[)') && tsrange(" + FROM + ", " + TO + ", '[]') " +
+                        "and (" + TO + " is null or ?1 <= " + TO + "))"
+                : "((?4 is null or ?1 <= ?4) and (?3 is null or ?2 > ?3))");
+    }
+
+    private void register(FunctionContributions functionContributions, String name, String pattern) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry().patternDescriptorBuilder(name, pattern)
+                .setExactArgumentCount(4)
+                .setInvariantType(booleanType)
+                // Window bounds are usually nullable parameters; type them like the start column
+                .setArgumentTypeResolver(StandardFunctionArgumentTypeResolvers.argumentsOrImplied(0))
+                .setArgumentListSignature("(TEMPORAL start, TEMPORAL end, TEMPORAL from, TEMPORAL to)")
+                .register();
+    }
+}
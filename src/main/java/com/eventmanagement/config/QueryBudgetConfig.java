@@ -0,0 +1,69 @@
+// src/main/java/com/eventmanagement/config/QueryBudgetConfig.java
+package com.eventmanagement.config;
+
+import com.eventmanagement.monitoring.QueryBudgetFilter;
+import com.eventmanagement.monitoring.QueryStatsInterceptor;
+import com.eventmanagement.monitoring.QueryStatsSessionListener;
+import com.eventmanagement.monitoring.QueryStatsStatementInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetConfig {
+
+    private boolean enabled;
+    private double sampleRate = 1.0;
+    private boolean failOnViolation;
+    private Integer defaultBudget;
+    private Map<String, Integer> budgets = new HashMap<>();
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.query-budget", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer queryStatsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryStatsStatementInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new QueryStatsInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatsSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.query-budget", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(this, meterRegistry.getIfAvailable()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    public Integer getBudget(String handler) {
+        return budgets.getOrDefault(handler, defaultBudget);
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public double getSampleRate() { return sampleRate; }
+    public void setSampleRate(double sampleRate) { this.sampleRate = sampleRate; }
+
+    public boolean isFailOnViolation() { return failOnViolation; }
+    public void setFailOnViolation(boolean failOnViolation) { this.failOnViolation = failOnViolation; }
+
+    public Integer getDefaultBudget() { return defaultBudget; }
+    public void setDefaultBudget(Integer defaultBudget) { this.defaultBudget = defaultBudget; }
+
+    public Map<String, Integer> getBudgets() { return budgets; }
+    public void setBudgets(Map<String, Integer> budgets) { this.budgets = budgets; }
+}
@@ -0,0 +1,29 @@
+// src/main/java/com/eventmanagement/config/RemoteCacheConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.remote-cache")
+public class RemoteCacheConfig {
+
+    private boolean enabled;
+    private Duration ttl = Duration.ofMinutes(10);
+    private Duration localTtl = Duration.ofSeconds(30);
+    private String keyPrefix = "em:cache:v1:";
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+    public Duration getLocalTtl() { return localTtl; }
+    public void setLocalTtl(Duration localTtl) { this.localTtl = localTtl; }
+
+    public String getKeyPrefix() { return keyPrefix; }
+    public void setKeyPrefix(String keyPrefix) { this.keyPrefix = keyPrefix; }
+}
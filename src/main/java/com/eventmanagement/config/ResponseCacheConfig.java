@@ -0,0 +1,24 @@
+// src/main/java/com/eventmanagement/config/ResponseCacheConfig.java
+package com.eventmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheConfig {
+
+    private boolean enabled;
+    private DataSize maximumWeight = DataSize.ofMegabytes(32);
+    private int gzipLevel = 9;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public DataSize getMaximumWeight() { return maximumWeight; }
+    public void setMaximumWeight(DataSize maximumWeight) { this.maximumWeight = maximumWeight; }
+
+    public int getGzipLevel() { return gzipLevel; }
+    public void setGzipLevel(int gzipLevel) { this.gzipLevel = gzipLevel; }
+}
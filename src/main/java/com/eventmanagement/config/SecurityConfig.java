@@ -59,11 +59,14 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
 
                         .requestMatchers(HttpMethod.GET, "/api/events").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/events/*").permitAll() // FIXED HERE
                         .requestMatchers(HttpMethod.GET, "/api/events/upcoming").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/events/nearby").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/events/*/attendance/stream").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/events/batch-get").permitAll()
 
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/events/*").hasAnyRole("ADMIN", "USER")
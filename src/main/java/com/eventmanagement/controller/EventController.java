@@ -1,29 +1,47 @@
 // src/main/java/com/eventmanagement/controller/EventController.java
 package com.eventmanagement.controller;
 
+import com.eventmanagement.cache.AccessFrequencyTracker;
+import com.eventmanagement.cache.ResponseBodyCache;
+import com.eventmanagement.catalog.EventCatalogService;
+import com.eventmanagement.config.HttpCacheConfig;
 import com.eventmanagement.dto.request.AttendanceRequest;
 import com.eventmanagement.dto.request.CreateEventRequest;
+import com.eventmanagement.dto.request.EventBatchRequest;
 import com.eventmanagement.dto.request.UpdateEventRequest;
+import com.eventmanagement.dto.response.AttendanceCountsResponse;
+import com.eventmanagement.dto.response.EventBatchResponse;
 import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventDetailVersion;
 import com.eventmanagement.dto.response.EventResponse;
 import com.eventmanagement.dto.response.PagedResponse;
 import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.DateRangeMode;
 import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.realtime.AttendanceStreamHub;
+import com.eventmanagement.repository.EventRepositoryCustom.EventFilter;
 import com.eventmanagement.security.UserPrincipal;
 import com.eventmanagement.service.EventService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +51,21 @@ public class EventController {
     @Autowired
     private EventService eventService;
 
+    @Autowired(required = false)
+    private EventCatalogService eventCatalogService;
+
+    @Autowired(required = false)
+    private AccessFrequencyTracker accessFrequencyTracker;
+
+    @Autowired(required = false)
+    private ResponseBodyCache responseBodyCache;
+
+    @Autowired
+    private AttendanceStreamHub attendanceStreamHub;
+
+    @Autowired
+    private HttpCacheConfig httpCacheConfig;
+
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public ResponseEntity<EventResponse> createEvent(
@@ -62,65 +95,174 @@ public class EventController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EventDetailResponse> getEventDetails(
+    public ResponseEntity<?> getEventDetails(
             @PathVariable UUID id,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest,
+            HttpServletRequest request) {
         UUID userId = currentUser != null ? currentUser.getId() : null;
+        // Checked before the details are assembled or read from the cache; the version lookup
+        // also enforces access to private events
+        EventDetailVersion version = eventService.getEventDetailVersion(id, userId);
+        if (accessFrequencyTracker != null) {
+            accessFrequencyTracker.record(id);
+        }
+        CacheControl cacheControl = userId == null ? CacheControl.noCache().cachePublic() : CacheControl.noCache().cachePrivate();
+        boolean fromBytes = userId == null && responseBodyCache != null;
+        // The byte cache sends the same body gzipped or not, which a strong ETag would have to tell apart
+        String eTag = fromBytes ? "W/" + version.getETag() : version.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT).build();
+        }
+
         EventDetailResponse response = eventService.getEventDetails(id, userId);
+        if (!version.matches(response)) {
+            // The cached copy predates a change, e.g. to the attendance, which does not evict it
+            response = eventService.refreshEventDetails(id, userId);
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT);
+        if (version.matches(response)) {
+            builder.eTag(eTag);
+            if (fromBytes) {
+                // The anonymous copy is the one every visitor shares, so its bytes are kept
+                return responseBodyCache.respond(request, builder, "event:" + id, response, false);
+            }
+        }
+        return builder.body(response);
+    }
+
+    // Access is checked per event, so one private event does not fail the batch
+    @PostMapping("/batch-get")
+    public ResponseEntity<EventBatchResponse> batchGetEvents(
+            @Valid @RequestBody EventBatchRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        UUID userId = currentUser != null ? currentUser.getId() : null;
+        EventBatchResponse response = eventService.getEventDetailsBatch(request.getIds(), userId);
+        if (accessFrequencyTracker != null) {
+            response.getEvents().forEach(event -> accessFrequencyTracker.record(event.getId()));
+        }
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<PagedResponse<EventResponse>> getAllEvents(
+    public ResponseEntity<? extends PagedResponse<?>> getAllEvents(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "CONTAINS") DateRangeMode dateMode,
             @RequestParam(required = false) Visibility visibility,
             @RequestParam(required = false) UUID hostId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "startTime") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String fields,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        PagedResponse<EventResponse> response = eventService.getAllEvents(
-                title, location, startDate, endDate, visibility, hostId, pageable);
-        return ResponseEntity.ok(response);
+        // Anonymous callers only ever see the public catalog
+        if (currentUser == null && visibility == null) {
+            visibility = Visibility.PUBLIC;
+        }
+        boolean shared = currentUser == null && visibility == Visibility.PUBLIC;
+        // Normalized before the source is chosen, so the catalog and the database see the same filter
+        EventFilter filter = new EventFilter(title, location, startDate, endDate, dateMode == DateRangeMode.OVERLAPS,
+                visibility, hostId, null, null).normalized();
+        if (eventCatalogService != null && visibility == Visibility.PUBLIC) {
+            Optional<PagedResponse<EventResponse>> catalog = eventCatalogService.findPublicEvents(filter.title(),
+                    filter.location(), filter.startDate(), filter.endDate(), dateMode, hostId, pageable);
+            if (catalog.isPresent()) {
+                return isSparse(fields) ? listing(eventService.selectEventFields(catalog.get(), fields), shared)
+                        : listing(catalog.get(), shared);
+            }
+        }
+        if (isSparse(fields)) {
+            return listing(eventService.getEventFields(filter, fields, pageable), shared);
+        }
+
+        PagedResponse<EventResponse> response = eventService.getAllEvents(filter.title(), filter.location(),
+                filter.startDate(), filter.endDate(), dateMode, visibility, hostId, pageable);
+        return listing(response, shared);
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<PagedResponse<EventResponse>> getUpcomingEvents(
+    public ResponseEntity<?> getUpcomingEvents(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("startTime").ascending());
-        PagedResponse<EventResponse> response = eventService.getUpcomingEvents(pageable);
-        return ResponseEntity.ok(response);
+        LocalDateTime now = LocalDateTime.now();
+        Optional<PagedResponse<EventResponse>> catalog = eventCatalogService != null
+                ? eventCatalogService.findUpcomingEvents(now, pageable)
+                : Optional.empty();
+        if (isSparse(fields)) {
+            return listing(catalog.isPresent() ? eventService.selectEventFields(catalog.get(), fields)
+                    : eventService.getEventFields(EventFilter.upcoming(now), fields, pageable), true);
+        }
+        PagedResponse<EventResponse> response = catalog.orElseGet(() -> eventService.getUpcomingEvents(pageable));
+        if (responseBodyCache != null) {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(httpCacheConfig.listingCacheControl(true))
+                    .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT);
+            return responseBodyCache.respond(request, builder, "upcoming:" + page + ":" + size, response, true);
+        }
+        return listing(response, true);
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<PagedResponse<EventResponse>> getNearbyEvents(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "true") boolean upcoming,
+            @RequestParam(required = false) Visibility visibility,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        // Results are ordered by distance, so no sort parameters
+        Pageable pageable = PageRequest.of(page, size);
+        if (currentUser == null && visibility == null) {
+            visibility = Visibility.PUBLIC;
+        }
+        PagedResponse<EventResponse> response = eventService.getNearbyEvents(
+                lat, lon, radiusKm, upcoming, visibility, pageable);
+        return listing(response, currentUser == null && visibility == Visibility.PUBLIC);
     }
 
     @GetMapping("/my-events")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<PagedResponse<EventResponse>> getUserEvents(
+    public ResponseEntity<? extends PagedResponse<?>> getUserEvents(
             @AuthenticationPrincipal UserPrincipal currentUser,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        if (isSparse(fields)) {
+            return listing(eventService.getEventFields(EventFilter.hostedBy(currentUser.getId()), fields, pageable), false);
+        }
         PagedResponse<EventResponse> response = eventService.getUserEvents(currentUser.getId(), pageable);
-        return ResponseEntity.ok(response);
+        return listing(response, false);
     }
 
     @GetMapping("/attending")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public ResponseEntity<PagedResponse<EventResponse>> getUserAttendingEvents(
+    public ResponseEntity<? extends PagedResponse<?>> getUserAttendingEvents(
             @AuthenticationPrincipal UserPrincipal currentUser,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("startTime").ascending());
+        if (isSparse(fields)) {
+            return listing(eventService.getEventFields(EventFilter.attendedBy(currentUser.getId()), fields, pageable), false);
+        }
         PagedResponse<EventResponse> response = eventService.getUserAttendingEvents(currentUser.getId(), pageable);
-        return ResponseEntity.ok(response);
+        return listing(response, false);
     }
 
     @PostMapping("/attendance")
@@ -140,4 +282,27 @@ public class EventController {
         AttendanceStatus status = eventService.getUserAttendanceStatus(id, currentUser.getId());
         return ResponseEntity.ok(status);
     }
+
+    // Pushes the current counts, then at most one update per flush interval while they change
+    @GetMapping(value = "/{id}/attendance/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAttendanceCounts(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        UUID userId = currentUser != null ? currentUser.getId() : null;
+        AttendanceCountsResponse counts = eventService.getAttendanceCounts(id, userId);
+        return attendanceStreamHub.subscribe(id, counts);
+    }
+
+    // Listings vary with the caller and the negotiated format, so shared caches must key them on both
+    private <T> ResponseEntity<PagedResponse<T>> listing(PagedResponse<T> response, boolean shared) {
+        return ResponseEntity.ok()
+                .cacheControl(httpCacheConfig.listingCacheControl(shared))
+                .varyBy(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT)
+                .body(response);
+    }
+
+    // fields= narrows a listing to the named fields, and the query to their columns
+    private static boolean isSparse(String fields) {
+        return fields != null && !fields.isBlank();
+    }
 }
@@ -0,0 +1,105 @@
+// src/main/java/com/eventmanagement/datasource/ReadYourWritesTracker.java
+package com.eventmanagement.datasource;
+
+import com.eventmanagement.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Pins a user to the primary for a short window after they commit a write, so that their
+ * own follow-up reads do not hit a replica that has not replayed the write yet.
+ */
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<String> SUBJECT_OVERRIDE = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> pinnedSubjects;
+
+    public ReadYourWritesTracker(Duration stickiness) {
+        this(stickiness, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration stickiness, Ticker ticker) {
+        this.pinnedSubjects = Caffeine.newBuilder()
+                .expireAfterWrite(stickiness)
+                .maximumSize(100_000)
+                .ticker(ticker)
+                .build();
+    }
+
+    public boolean isPinned(String subject) {
+        return subject != null && pinnedSubjects.getIfPresent(subject) != null;
+    }
+
+    public void pin(String subject) {
+        if (subject != null) {
+            pinnedSubjects.put(subject, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Pins the subject once the current transaction commits, or immediately when no
+     * transaction is active.
+     */
+    public void pinAfterCommit(String subject) {
+        if (subject == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(subject);
+            return;
+        }
+        String resourceKey = ReadYourWritesTracker.class.getName() + "." + subject;
+        if (TransactionSynchronizationManager.hasResource(resourceKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(resourceKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                if (status == STATUS_COMMITTED) {
+                    pin(subject);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs the callback on behalf of a user who is not yet in the security context, such as
+     * the user lookup performed while authenticating a JWT.
+     */
+    public <T> T callAs(String subject, Supplier<T> callback) {
+        String previous = SUBJECT_OVERRIDE.get();
+        SUBJECT_OVERRIDE.set(subject);
+        try {
+            return callback.get();
+        } finally {
+            if (previous == null) {
+                SUBJECT_OVERRIDE.remove();
+            } else {
+                SUBJECT_OVERRIDE.set(previous);
+            }
+        }
+    }
+
+    public static String currentSubject() {
+        String subject = SUBJECT_OVERRIDE.get();
+        if (subject != null) {
+            return subject;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId().toString();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+// src/main/java/com/eventmanagement/dto/request/EventBatchRequest.java
+package com.eventmanagement.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class EventBatchRequest {
+
+    public static final int MAX_IDS = 200;
+
+    @NotEmpty(message = "At least one event ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " event IDs can be requested at once")
+    private List<@NotNull(message = "Event IDs must not be null") UUID> ids;
+
+    public EventBatchRequest() {}
+
+    public EventBatchRequest(List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public List<UUID> getIds() { return ids; }
+    public void setIds(List<UUID> ids) { this.ids = ids; }
+}
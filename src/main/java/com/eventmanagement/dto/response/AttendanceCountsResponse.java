@@ -0,0 +1,42 @@
+// src/main/java/com/eventmanagement/dto/response/AttendanceCountsResponse.java
+package com.eventmanagement.dto.response;
+
+import com.eventmanagement.enums.AttendanceStatus;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class AttendanceCountsResponse {
+
+    private UUID eventId;
+    private Long attendeeCount;
+    private Map<AttendanceStatus, Long> attendanceBreakdown;
+
+    public AttendanceCountsResponse() {}
+
+    public AttendanceCountsResponse(UUID eventId, Map<AttendanceStatus, Long> attendanceBreakdown) {
+        this.eventId = eventId;
+        this.attendanceBreakdown = attendanceBreakdown;
+        this.attendeeCount = attendanceBreakdown.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // Rows of [status, count] as returned by AttendanceRepository.countAttendanceByStatus
+    public static AttendanceCountsResponse fromStatusCounts(UUID eventId, List<Object[]> statusCounts) {
+        Map<AttendanceStatus, Long> breakdown = new EnumMap<>(AttendanceStatus.class);
+        for (Object[] row : statusCounts) {
+            breakdown.put((AttendanceStatus) row[0], (Long) row[1]);
+        }
+        return new AttendanceCountsResponse(eventId, breakdown);
+    }
+
+    public UUID getEventId() { return eventId; }
+    public void setEventId(UUID eventId) { this.eventId = eventId; }
+
+    public Long getAttendeeCount() { return attendeeCount; }
+    public void setAttendeeCount(Long attendeeCount) { this.attendeeCount = attendeeCount; }
+
+    public Map<AttendanceStatus, Long> getAttendanceBreakdown() { return attendanceBreakdown; }
+    public void setAttendanceBreakdown(Map<AttendanceStatus, Long> attendanceBreakdown) { this.attendanceBreakdown = attendanceBreakdown; }
+}
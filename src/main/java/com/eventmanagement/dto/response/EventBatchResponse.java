@@ -0,0 +1,33 @@
+// src/main/java/com/eventmanagement/dto/response/EventBatchResponse.java
+package com.eventmanagement.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The requested events in request order, each once. IDs that {@code GET /api/events/{id}} would
+ * answer with 404 or 401 are listed instead of failing the whole batch.
+ */
+public class EventBatchResponse {
+
+    private List<EventDetailResponse> events;
+    private List<UUID> notFound;
+    private List<UUID> forbidden;
+
+    public EventBatchResponse() {}
+
+    public EventBatchResponse(List<EventDetailResponse> events, List<UUID> notFound, List<UUID> forbidden) {
+        this.events = events;
+        this.notFound = notFound;
+        this.forbidden = forbidden;
+    }
+
+    public List<EventDetailResponse> getEvents() { return events; }
+    public void setEvents(List<EventDetailResponse> events) { this.events = events; }
+
+    public List<UUID> getNotFound() { return notFound; }
+    public void setNotFound(List<UUID> notFound) { this.notFound = notFound; }
+
+    public List<UUID> getForbidden() { return forbidden; }
+    public void setForbidden(List<UUID> forbidden) { this.forbidden = forbidden; }
+}
@@ -0,0 +1,64 @@
+// src/main/java/com/eventmanagement/dto/response/EventDetailVersion.java
+package com.eventmanagement.dto.response;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * What an {@link EventDetailResponse} is built from, read without building it: the event's last
+ * modification and the count, latest response and latest modification of its active
+ * attendances. Any change to the event or its attendance changes one of them, so they make a
+ * strong ETag.
+ */
+public class EventDetailVersion {
+
+    private final UUID eventId;
+    private final LocalDateTime updatedAt;
+    private final long attendeeCount;
+    private final LocalDateTime lastRespondedAt;
+    private final LocalDateTime attendanceUpdatedAt;
+
+    public EventDetailVersion(UUID eventId, LocalDateTime updatedAt, long attendeeCount,
+                              LocalDateTime lastRespondedAt, LocalDateTime attendanceUpdatedAt) {
+        this.eventId = eventId;
+        this.updatedAt = updatedAt;
+        this.attendeeCount = attendeeCount;
+        this.lastRespondedAt = lastRespondedAt;
+        this.attendanceUpdatedAt = attendanceUpdatedAt;
+    }
+
+    public String getETag() {
+        String version = eventId + "|" + updatedAt + "|" + attendeeCount + "|" + lastRespondedAt + "|" + attendanceUpdatedAt;
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Whether the response reflects this version, which a cached one may not. Only the fields the
+     * response carries can be compared.
+     */
+    public boolean matches(EventDetailResponse response) {
+        LocalDateTime responseLastRespondedAt = response.getAttendees() == null ? null : response.getAttendees().stream()
+                .map(EventDetailResponse.AttendeeResponse::getRespondedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return eventId.equals(response.getId())
+                && Objects.equals(updatedAt, response.getUpdatedAt())
+                && response.getAttendeeCount() != null && attendeeCount == response.getAttendeeCount()
+                && Objects.equals(lastRespondedAt, responseLastRespondedAt);
+    }
+
+    public UUID getEventId() { return eventId; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public long getAttendeeCount() { return attendeeCount; }
+
+    public LocalDateTime getLastRespondedAt() { return lastRespondedAt; }
+
+    public LocalDateTime getAttendanceUpdatedAt() { return attendanceUpdatedAt; }
+}
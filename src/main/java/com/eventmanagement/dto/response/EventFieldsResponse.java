@@ -0,0 +1,39 @@
+// src/main/java/com/eventmanagement/dto/response/EventFieldsResponse.java
+package com.eventmanagement.dto.response;
+
+import com.eventmanagement.enums.EventField;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An event listing entry holding only the requested fields; the others are left out of the
+ * output entirely rather than written as null.
+ */
+public class EventFieldsResponse {
+
+    private final Map<String, Object> fields = new LinkedHashMap<>();
+
+    public EventFieldsResponse() {}
+
+    public static EventFieldsResponse of(EventResponse event, Set<EventField> fields) {
+        EventFieldsResponse response = new EventFieldsResponse();
+        for (EventField field : fields) {
+            response.put(field, field.valueOf(event));
+        }
+        return response;
+    }
+
+    public void put(EventField field, Object value) {
+        fields.put(field.getName(), value);
+    }
+
+    public Object get(EventField field) {
+        return fields.get(field.getName());
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getFields() { return fields; }
+}
@@ -2,6 +2,7 @@
 package com.eventmanagement.dto.response;
 
 import com.eventmanagement.enums.Visibility;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -17,6 +18,11 @@ public class EventResponse {
     private LocalDateTime endTime;
     private String location;
     private Visibility visibility;
+    private Double latitude;
+    private Double longitude;
+    // Only set by the nearby search
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -49,6 +55,15 @@ public class EventResponse {
     public Visibility getVisibility() { return visibility; }
     public void setVisibility(Visibility visibility) { this.visibility = visibility; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public Double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(Double distanceKm) { this.distanceKm = distanceKm; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "attendance")
-@Filter(name = "softDeleteFilter", condition = "(:isDeleted = false and deleted_at IS NULL)")
+@Filter(name = "softDeleteFilter")
 public class Attendance extends BaseEntity {
 
     @EmbeddedId
@@ -32,6 +32,10 @@ public class Attendance extends BaseEntity {
     @Column(name = "responded_at", nullable = false)
     private LocalDateTime respondedAt;
 
+    // Partition key copied from the event; kept in sync by the database via ON UPDATE CASCADE
+    @Column(name = "event_start_time", nullable = false, updatable = false)
+    private LocalDateTime eventStartTime;
+
     public Attendance() {}
 
     public Attendance(Event event, User user, AttendanceStatus status) {
@@ -39,6 +43,7 @@ public class Attendance extends BaseEntity {
         this.user = user;
         this.status = status;
         this.id = new AttendanceId(event.getId(), user.getId());
+        this.eventStartTime = event.getStartTime();
     }
 
     public AttendanceId getId() { return id; }
@@ -56,10 +61,16 @@ public class Attendance extends BaseEntity {
     public LocalDateTime getRespondedAt() { return respondedAt; }
     public void setRespondedAt(LocalDateTime respondedAt) { this.respondedAt = respondedAt; }
 
+    public LocalDateTime getEventStartTime() { return eventStartTime; }
+    public void setEventStartTime(LocalDateTime eventStartTime) { this.eventStartTime = eventStartTime; }
+
     @PrePersist
     public void prePersist() {
         if (respondedAt == null) {
             respondedAt = LocalDateTime.now();
         }
+        if (eventStartTime == null && event != null) {
+            eventStartTime = event.getStartTime();
+        }
     }
 }
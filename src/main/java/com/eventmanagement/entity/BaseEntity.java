@@ -2,7 +2,6 @@
 package com.eventmanagement.entity;
 
 import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,7 +11,7 @@ import java.time.LocalDateTime;
 
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
-@FilterDef(name = "softDeleteFilter", parameters = @ParamDef(name = "isDeleted", type = Boolean.class))
+@FilterDef(name = "softDeleteFilter", defaultCondition = "deleted_at IS NULL", autoEnabled = true)
 public abstract class BaseEntity {
 
     @Column(name = "deleted_at")
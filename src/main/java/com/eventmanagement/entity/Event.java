@@ -2,6 +2,7 @@
 package com.eventmanagement.entity;
 
 import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.util.GeoUtils;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -13,11 +14,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "events")
-@Filter(name = "softDeleteFilter", condition = "(:isDeleted = false and deleted_at IS NULL)")
+@Filter(name = "softDeleteFilter")
 public class Event extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @NotBlank
@@ -47,6 +48,14 @@ public class Event extends BaseEntity {
     @Column(nullable = false)
     private Visibility visibility = Visibility.PUBLIC;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    // Derived from latitude/longitude; indexed for the nearby search
+    @Column(length = GeoUtils.GEOHASH_PRECISION)
+    private String geohash;
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Attendance> attendances;
 
@@ -87,6 +96,22 @@ public class Event extends BaseEntity {
     public Visibility getVisibility() { return visibility; }
     public void setVisibility(Visibility visibility) { this.visibility = visibility; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public String getGeohash() { return geohash; }
+
     public List<Attendance> getAttendances() { return attendances; }
     public void setAttendances(List<Attendance> attendances) { this.attendances = attendances; }
+
+    @PrePersist
+    @PreUpdate
+    void updateGeohash() {
+        geohash = latitude != null && longitude != null
+                ? GeoUtils.geohash(latitude, longitude, GeoUtils.GEOHASH_PRECISION)
+                : null;
+    }
 }
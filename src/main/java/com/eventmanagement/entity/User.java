@@ -13,11 +13,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
-@Filter(name = "softDeleteFilter", condition = "(:isDeleted = false and deleted_at IS NULL)")
+@Filter(name = "softDeleteFilter")
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @NotBlank
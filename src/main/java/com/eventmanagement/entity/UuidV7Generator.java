@@ -0,0 +1,14 @@
+// src/main/java/com/eventmanagement/entity/UuidV7Generator.java
+package com.eventmanagement.entity;
+
+import com.eventmanagement.util.UuidUtils;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class UuidV7Generator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return UuidUtils.randomV7();
+    }
+}
@@ -0,0 +1,6 @@
+// src/main/java/com/eventmanagement/enums/DateRangeMode.java
+package com.eventmanagement.enums;
+
+public enum DateRangeMode {
+    CONTAINS, OVERLAPS
+}
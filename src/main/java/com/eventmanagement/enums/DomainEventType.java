@@ -0,0 +1,23 @@
+// src/main/java/com/eventmanagement/enums/DomainEventType.java
+package com.eventmanagement.enums;
+
+/**
+ * The changes written to the outbox, each with the aggregate it is ordered by. Attendance
+ * changes belong to their event, so they are delivered in order with the event's own changes.
+ */
+public enum DomainEventType {
+    EVENT_CREATED("event"),
+    EVENT_UPDATED("event"),
+    EVENT_DELETED("event"),
+    ATTENDANCE_CHANGED("event"),
+    USER_REGISTERED("user"),
+    USER_DEACTIVATED("user");
+
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() { return aggregateType; }
+}
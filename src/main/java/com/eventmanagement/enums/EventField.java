@@ -0,0 +1,77 @@
+// src/main/java/com/eventmanagement/enums/EventField.java
+package com.eventmanagement.enums;
+
+import com.eventmanagement.dto.response.EventResponse;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@link EventResponse} fields a listing can be narrowed to with {@code fields=}, each with
+ * the JPQL expression it is read from. {@code hostName} is the only one that needs the host join.
+ */
+public enum EventField {
+    ID("id", "e.id", EventResponse::getId),
+    TITLE("title", "e.title", EventResponse::getTitle),
+    DESCRIPTION("description", "e.description", EventResponse::getDescription),
+    HOST_ID("hostId", "e.host.id", EventResponse::getHostId),
+    HOST_NAME("hostName", "h.name", EventResponse::getHostName),
+    START_TIME("startTime", "e.startTime", EventResponse::getStartTime),
+    END_TIME("endTime", "e.endTime", EventResponse::getEndTime),
+    LOCATION("location", "e.location", EventResponse::getLocation),
+    VISIBILITY("visibility", "e.visibility", EventResponse::getVisibility),
+    LATITUDE("latitude", "e.latitude", EventResponse::getLatitude),
+    LONGITUDE("longitude", "e.longitude", EventResponse::getLongitude),
+    CREATED_AT("createdAt", "e.createdAt", EventResponse::getCreatedAt),
+    UPDATED_AT("updatedAt", "e.updatedAt", EventResponse::getUpdatedAt);
+
+    private static final Map<String, EventField> BY_NAME = Stream.of(values())
+            .collect(Collectors.toMap(field -> field.name.toLowerCase(Locale.ROOT), Function.identity()));
+
+    private final String name;
+    private final String path;
+    private final Function<EventResponse, Object> getter;
+
+    EventField(String name, String path, Function<EventResponse, Object> getter) {
+        this.name = name;
+        this.path = path;
+        this.getter = getter;
+    }
+
+    public String getName() { return name; }
+
+    public String getPath() { return path; }
+
+    public Object valueOf(EventResponse event) {
+        return getter.apply(event);
+    }
+
+    /**
+     * @throws IllegalArgumentException when {@code name} is not a field, in any case
+     */
+    public static EventField fromName(String name) {
+        EventField field = BY_NAME.get(name.trim().toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown event field '" + name.trim() + "'");
+        }
+        return field;
+    }
+
+    /**
+     * Parses a comma-separated list; {@code id} is always included, so results stay addressable.
+     */
+    public static Set<EventField> parse(String fields) {
+        Set<EventField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                parsed.add(fromName(name));
+            }
+        }
+        return parsed;
+    }
+}
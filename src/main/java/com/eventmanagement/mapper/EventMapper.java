@@ -24,6 +24,7 @@ public interface EventMapper {
 
     @Mapping(target = "hostId", source = "host.id")
     @Mapping(target = "hostName", source = "host.name")
+    @Mapping(target = "distanceKm", ignore = true)
     EventResponse toResponse(Event event);
 
     List<EventResponse> toResponseList(List<Event> events);
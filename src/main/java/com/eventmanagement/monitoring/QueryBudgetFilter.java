@@ -0,0 +1,116 @@
+// src/main/java/com/eventmanagement/monitoring/QueryBudgetFilter.java
+package com.eventmanagement.monitoring;
+
+import com.eventmanagement.config.QueryBudgetConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final QueryBudgetConfig config;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(QueryBudgetConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!isSampled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.clear();
+        }
+
+        report(request, stats);
+    }
+
+    private boolean isSampled() {
+        double sampleRate = config.getSampleRate();
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        String handler = getHandlerName(request);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "none";
+
+        if (meterRegistry != null) {
+            Tags tags = Tags.of("endpoint", endpoint, "handler", handler);
+            DistributionSummary.builder("app.request.sql.statements").tags(tags)
+                    .register(meterRegistry).record(stats.getStatementCount());
+            DistributionSummary.builder("app.request.entities.loaded").tags(tags)
+                    .register(meterRegistry).record(stats.getEntitiesLoaded());
+            Timer.builder("app.request.jdbc.time").tags(tags)
+                    .register(meterRegistry).record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        MDC.put("sqlCount", String.valueOf(stats.getStatementCount()));
+        MDC.put("jdbcTimeMs", String.valueOf(stats.getJdbcMillis()));
+        MDC.put("entitiesLoaded", String.valueOf(stats.getEntitiesLoaded()));
+        try {
+            Integer budget = config.getBudget(handler);
+            if (budget != null && stats.getStatementCount() > budget) {
+                handleViolation(request, handler, endpoint, stats, budget);
+            } else {
+                logger.debug("{} {} executed {}", request.getMethod(), request.getRequestURI(), stats);
+            }
+        } finally {
+            MDC.remove("sqlCount");
+            MDC.remove("jdbcTimeMs");
+            MDC.remove("entitiesLoaded");
+        }
+    }
+
+    private void handleViolation(HttpServletRequest request, String handler, String endpoint,
+                                 QueryStats stats, int budget) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("app.request.query.budget.exceeded",
+                    "endpoint", endpoint, "handler", handler).increment();
+        }
+
+        String message = String.format("Query budget exceeded for %s %s (%s): %d statements, budget %d",
+                request.getMethod(), request.getRequestURI(), handler, stats.getStatementCount(), budget);
+        logger.warn(message);
+
+        if (config.isFailOnViolation()) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private String getHandlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getMethod().getName();
+        }
+        return "none";
+    }
+}
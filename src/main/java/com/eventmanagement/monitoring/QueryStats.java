@@ -0,0 +1,76 @@
+// src/main/java/com/eventmanagement/monitoring/QueryStats.java
+package com.eventmanagement.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+public class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long jdbcNanos;
+    private int entitiesLoaded;
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static QueryStats capture(Runnable action) {
+        QueryStats previous = CURRENT.get();
+        QueryStats stats = start();
+        try {
+            action.run();
+            return stats;
+        } finally {
+            if (previous != null) {
+                previous.add(stats);
+                CURRENT.set(previous);
+            } else {
+                clear();
+            }
+        }
+    }
+
+    void recordStatement() {
+        statementCount++;
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void recordEntityLoad() {
+        entitiesLoaded++;
+    }
+
+    private void add(QueryStats other) {
+        statementCount += other.statementCount;
+        jdbcNanos += other.jdbcNanos;
+        entitiesLoaded += other.entitiesLoaded;
+    }
+
+    public int getStatementCount() { return statementCount; }
+
+    public long getJdbcNanos() { return jdbcNanos; }
+
+    public long getJdbcMillis() { return TimeUnit.NANOSECONDS.toMillis(jdbcNanos); }
+
+    public int getEntitiesLoaded() { return entitiesLoaded; }
+
+    @Override
+    public String toString() {
+        return "QueryStats{statements=" + statementCount +
+                ", jdbcMillis=" + getJdbcMillis() +
+                ", entitiesLoaded=" + entitiesLoaded + '}';
+    }
+}
@@ -0,0 +1,17 @@
+// src/main/java/com/eventmanagement/monitoring/QueryStatsInterceptor.java
+package com.eventmanagement.monitoring;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+public class QueryStatsInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordEntityLoad();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+// src/main/java/com/eventmanagement/monitoring/QueryStatsSessionListener.java
+package com.eventmanagement.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+public class QueryStatsSessionListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordElapsed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordElapsed();
+    }
+
+    private void recordElapsed() {
+        if (executeStart < 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - executeStart;
+        executeStart = -1;
+
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordJdbcTime(elapsed);
+        }
+    }
+}
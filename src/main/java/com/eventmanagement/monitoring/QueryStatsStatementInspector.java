@@ -0,0 +1,16 @@
+// src/main/java/com/eventmanagement/monitoring/QueryStatsStatementInspector.java
+package com.eventmanagement.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryStatsStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordStatement();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,15 @@
+// src/main/java/com/eventmanagement/outbox/DomainEvent.java
+package com.eventmanagement.outbox;
+
+import com.eventmanagement.enums.DomainEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One committed change read back from the outbox. {@code id} increases with commit order
+ * within an aggregate, so subscribers can use it to recognise a redelivery.
+ */
+public record DomainEvent(long id, DomainEventType type, UUID aggregateId, JsonNode payload, LocalDateTime occurredAt) {
+}
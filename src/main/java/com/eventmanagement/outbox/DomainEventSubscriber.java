@@ -0,0 +1,13 @@
+// src/main/java/com/eventmanagement/outbox/DomainEventSubscriber.java
+package com.eventmanagement.outbox;
+
+/**
+ * Receives the outbox's domain events on the relay thread. Delivery is at least once and in
+ * order per aggregate: when any subscriber throws, the event is offered to every subscriber
+ * again after a delay, and later events of its aggregate wait for it. Handlers must therefore
+ * be idempotent and should not block.
+ */
+public interface DomainEventSubscriber {
+
+    void onEvent(DomainEvent event);
+}
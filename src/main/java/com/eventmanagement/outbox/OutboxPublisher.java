@@ -0,0 +1,111 @@
+// src/main/java/com/eventmanagement/outbox/OutboxPublisher.java
+package com.eventmanagement.outbox;
+
+import com.eventmanagement.enums.DomainEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Writes domain events to the {@code event_outbox} table in the transaction that made the
+ * change, so they are stored if and only if it commits. Events are collected while the
+ * transaction runs and inserted just before it commits, after taking a transaction-scoped
+ * advisory lock per aggregate: concurrent writers to one aggregate thereby commit their rows
+ * in id order, which is the order the relay delivers them in.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class OutboxPublisher {
+
+    private static final Object PENDING_RESOURCE_KEY = new Object();
+    private static final String INSERT = "INSERT INTO event_outbox (aggregate_type, aggregate_id, event_type, payload) " +
+            "VALUES (?, ?, ?, CAST(? AS jsonb))";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Queues an event for the current transaction; the payload is serialized straight away.
+     *
+     * @throws IllegalStateException outside a read-write transaction, where the event could
+     *                               not be stored atomically with the change
+     */
+    public void publish(DomainEventType type, UUID aggregateId, Object payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            throw new IllegalStateException("Domain event " + type + " must be published inside a read-write transaction");
+        }
+        @SuppressWarnings("unchecked")
+        List<PendingEvent> pending = (List<PendingEvent>) TransactionSynchronizationManager.getResource(PENDING_RESOURCE_KEY);
+        if (pending == null) {
+            List<PendingEvent> batch = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_RESOURCE_KEY, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(batch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_RESOURCE_KEY);
+                }
+            });
+            pending = batch;
+        }
+        pending.add(new PendingEvent(type, aggregateId, write(payload)));
+    }
+
+    private void insert(List<PendingEvent> events) {
+        // Flushing first takes the entity row locks before the aggregate locks, the order every
+        // writer uses, so the two cannot deadlock
+        entityManager.flush();
+        SortedSet<Long> lockKeys = new TreeSet<>();
+        for (PendingEvent event : events) {
+            lockKeys.add(lockKey(event.aggregateId()));
+        }
+        for (Long lockKey : lockKeys) {
+            jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", lockKey);
+        }
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (PendingEvent event : events) {
+            rows.add(new Object[] {event.type().getAggregateType(), event.aggregateId(), event.type().name(), event.payload()});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    // Collisions only serialize unrelated aggregates' commits
+    static long lockKey(UUID aggregateId) {
+        return aggregateId.getMostSignificantBits() ^ aggregateId.getLeastSignificantBits();
+    }
+
+    private String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode domain event payload", ex);
+        }
+    }
+
+    private record PendingEvent(DomainEventType type, UUID aggregateId, String payload) {
+    }
+}
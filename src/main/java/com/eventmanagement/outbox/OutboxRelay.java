@@ -0,0 +1,224 @@
+// src/main/java/com/eventmanagement/outbox/OutboxRelay.java
+package com.eventmanagement.outbox;
+
+import com.eventmanagement.config.OutboxConfig;
+import com.eventmanagement.enums.DomainEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox rows to the {@link DomainEventSubscriber}s and deletes them, in batches of
+ * one transaction each. A batch first claims the earliest pending row of up to
+ * {@code batch-size} aggregates with {@code FOR UPDATE SKIP LOCKED}, then reads those
+ * aggregates' rows in id order. While a relay holds an aggregate's earliest row, no other
+ * relay can claim any of its rows, so any number of instances can poll without delivering an
+ * aggregate out of order. A failed row is retried with exponential backoff and holds back the
+ * rest of its aggregate; since rows are deleted in the transaction that delivered them, a
+ * crash before it commits delivers them again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_AGGREGATES = "SELECT o.aggregate_id FROM event_outbox o " +
+            "WHERE o.available_at <= LOCALTIMESTAMP " +
+            "AND NOT EXISTS (SELECT 1 FROM event_outbox earlier WHERE earlier.aggregate_id = o.aggregate_id AND earlier.id < o.id) " +
+            "ORDER BY o.id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String SELECT_ROWS = "SELECT id, event_type, aggregate_id, payload, created_at, attempts, " +
+            "CAST(EXTRACT(EPOCH FROM (LOCALTIMESTAMP - created_at)) * 1000 AS BIGINT) AS age_millis FROM event_outbox ";
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Autowired
+    private OutboxConfig outboxConfig;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private List<DomainEventSubscriber> subscribers = List.of();
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate batchTemplate;
+    private Counter deliveredEvents;
+    private Counter failedDeliveries;
+    private Timer deliveryLag;
+
+    public OutboxRelay() {
+    }
+
+    OutboxRelay(OutboxConfig outboxConfig, ObjectMapper objectMapper, List<DomainEventSubscriber> subscribers) {
+        this.outboxConfig = outboxConfig;
+        this.objectMapper = objectMapper;
+        this.subscribers = subscribers;
+    }
+
+    @PostConstruct
+    void init() {
+        batchTemplate = new TransactionTemplate(transactionManager);
+        if (meterRegistry != null) {
+            deliveredEvents = Counter.builder("app.outbox.delivered")
+                    .description("Domain events delivered to every subscriber")
+                    .register(meterRegistry);
+            failedDeliveries = Counter.builder("app.outbox.failed")
+                    .description("Domain event deliveries that failed and were scheduled for a retry")
+                    .register(meterRegistry);
+            deliveryLag = Timer.builder("app.outbox.lag")
+                    .description("Time from a domain event being stored to its delivery")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT0.2S}",
+            initialDelayString = "${app.outbox.poll-interval:PT0.2S}")
+    public void poll() {
+        try {
+            // A full batch suggests more is waiting, so keep going until the outbox is drained
+            boolean full;
+            do {
+                full = Boolean.TRUE.equals(batchTemplate.execute(status -> relayBatch()));
+            } while (full);
+        } catch (DataAccessException ex) {
+            logger.warn("Could not relay outbox events; retrying on the next poll", ex);
+        }
+    }
+
+    private boolean relayBatch() {
+        List<UUID> aggregates = jdbcTemplate.queryForList(CLAIM_AGGREGATES, UUID.class, outboxConfig.getBatchSize());
+        if (aggregates.isEmpty()) {
+            return false;
+        }
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        List<Object> args = new ArrayList<>(aggregates.size() + 1);
+        for (UUID aggregateId : aggregates) {
+            placeholders.add("?");
+            args.add(aggregateId);
+        }
+        args.add(outboxConfig.getBatchSize());
+        List<OutboxRow> rows = jdbcTemplate.query(SELECT_ROWS + "WHERE aggregate_id IN " + placeholders +
+                " ORDER BY id LIMIT ? FOR UPDATE", (rs, rowNum) -> new OutboxRow(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getObject("aggregate_id", UUID.class),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getInt("attempts"),
+                rs.getLong("age_millis")), args.toArray());
+
+        Outcome outcome = dispatch(rows);
+        if (!outcome.delivered().isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM event_outbox WHERE id = ?",
+                    outcome.delivered().stream().map(id -> new Object[] {id}).toList());
+        }
+        for (Failure failure : outcome.failed()) {
+            jdbcTemplate.update("UPDATE event_outbox SET attempts = ?, last_error = ?, " +
+                            "available_at = LOCALTIMESTAMP + ? * INTERVAL '1 millisecond' WHERE id = ?",
+                    failure.attempts(), failure.error(), retryDelay(failure.attempts()).toMillis(), failure.id());
+        }
+        return aggregates.size() == outboxConfig.getBatchSize();
+    }
+
+    /**
+     * Offers the rows, in id order, to every subscriber. Once a row of an aggregate fails, the
+     * aggregate's later rows are left for the retry.
+     */
+    Outcome dispatch(List<OutboxRow> rows) {
+        Set<UUID> heldBack = new HashSet<>();
+        List<Long> delivered = new ArrayList<>(rows.size());
+        List<Failure> failed = new ArrayList<>();
+        for (OutboxRow row : rows) {
+            if (heldBack.contains(row.aggregateId())) {
+                continue;
+            }
+            try {
+                DomainEvent event = row.toEvent(objectMapper);
+                for (DomainEventSubscriber subscriber : subscribers) {
+                    subscriber.onEvent(event);
+                }
+                delivered.add(row.id());
+                if (deliveredEvents != null) {
+                    deliveredEvents.increment();
+                    deliveryLag.record(row.ageMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (RuntimeException ex) {
+                heldBack.add(row.aggregateId());
+                int attempts = row.attempts() + 1;
+                logger.warn("Delivery of outbox event {} ({}) failed, attempt {}", row.id(), row.type(), attempts, ex);
+                failed.add(new Failure(row.id(), attempts, truncate(String.valueOf(ex))));
+                if (failedDeliveries != null) {
+                    failedDeliveries.increment();
+                }
+            }
+        }
+        return new Outcome(Collections.unmodifiableList(delivered), Collections.unmodifiableList(failed));
+    }
+
+    /**
+     * The wait before the given attempt is retried, doubling from {@code retry-delay} up to
+     * {@code max-retry-delay}.
+     */
+    Duration retryDelay(int attempts) {
+        Duration delay = outboxConfig.getRetryDelay();
+        for (int i = 1; i < attempts && delay.compareTo(outboxConfig.getMaxRetryDelay()) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(outboxConfig.getMaxRetryDelay()) < 0 ? delay : outboxConfig.getMaxRetryDelay();
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    record OutboxRow(long id, String type, UUID aggregateId, String payload, LocalDateTime createdAt,
+                     int attempts, long ageMillis) {
+
+        // An unknown type or unreadable payload fails like a subscriber would, so the row is kept
+        DomainEvent toEvent(ObjectMapper objectMapper) {
+            try {
+                return new DomainEvent(id, DomainEventType.valueOf(type), aggregateId, objectMapper.readTree(payload), createdAt);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Unreadable payload of outbox event " + id, ex);
+            }
+        }
+    }
+
+    record Failure(long id, int attempts, String error) {
+    }
+
+    record Outcome(List<Long> delivered, List<Failure> failed) {
+    }
+}
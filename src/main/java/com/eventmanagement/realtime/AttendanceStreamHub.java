@@ -0,0 +1,233 @@
+// src/main/java/com/eventmanagement/realtime/AttendanceStreamHub.java
+package com.eventmanagement.realtime;
+
+import com.eventmanagement.config.AttendanceStreamConfig;
+import com.eventmanagement.dto.response.AttendanceCountsResponse;
+import com.eventmanagement.repository.AttendanceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * In-process fan-out of live attendance counts to server-sent event subscribers. Attendance
+ * writes only mark their event dirty; every flush interval the counts of each dirty event are
+ * read once and offered to its subscribers, so a hot event costs one query per interval no
+ * matter how many RSVPs or watchers it has. Each subscriber holds a single pending update
+ * that newer counts overwrite, so a slow client skips intermediate values instead of queueing.
+ */
+@Component
+public class AttendanceStreamHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceStreamHub.class);
+
+    static final String EVENT_NAME = "attendance";
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceStreamConfig attendanceStreamConfig;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyEvents = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private Consumer<Runnable> sender;
+    private ExecutorService senderPool;
+    private Counter droppedUpdates;
+
+    public AttendanceStreamHub() {
+    }
+
+    AttendanceStreamHub(AttendanceRepository attendanceRepository, Consumer<Runnable> sender) {
+        this.attendanceRepository = attendanceRepository;
+        this.sender = sender;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        senderPool = Executors.newFixedThreadPool(attendanceStreamConfig.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "attendance-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        sender = senderPool::execute;
+        if (meterRegistry != null) {
+            Gauge.builder("app.attendance.stream.subscribers", subscriberCount, AtomicInteger::get)
+                    .description("Open attendance count streams")
+                    .register(meterRegistry);
+            droppedUpdates = Counter.builder("app.attendance.stream.dropped")
+                    .description("Attendance count updates overwritten before a slow subscriber received them")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        if (senderPool != null) {
+            senderPool.shutdownNow();
+        }
+    }
+
+    public SseEmitter subscribe(UUID eventId, AttendanceCountsResponse initialCounts) {
+        return subscribe(eventId, initialCounts, new SseEmitter(attendanceStreamConfig.getEmitterTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(UUID eventId, AttendanceCountsResponse initialCounts, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        // Registration and removal go through compute so an emptied channel is never dropped
+        // while a new subscriber is being added to it; the fan-out path only iterates
+        channels.compute(eventId, (id, channel) -> {
+            Channel target = channel != null ? channel : new Channel();
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+        Runnable unsubscribe = () -> unsubscribe(eventId, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        subscriber.offer(initialCounts);
+        return emitter;
+    }
+
+    /**
+     * Marks the event's counts as changed once the current transaction commits, or immediately
+     * when no transaction is active. Events nobody is watching are ignored.
+     */
+    public void attendanceChanged(UUID eventId) {
+        if (!channels.containsKey(eventId)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtyEvents.add(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirtyEvents.add(eventId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.attendance-stream.flush-interval:PT1S}",
+            initialDelayString = "${app.attendance-stream.flush-interval:PT1S}")
+    public void flush() {
+        Iterator<UUID> iterator = dirtyEvents.iterator();
+        while (iterator.hasNext()) {
+            UUID eventId = iterator.next();
+            iterator.remove();
+            Channel channel = channels.get(eventId);
+            if (channel == null || channel.subscribers.isEmpty()) {
+                continue;
+            }
+            try {
+                AttendanceCountsResponse counts = AttendanceCountsResponse.fromStatusCounts(eventId,
+                        attendanceRepository.countAttendanceByStatus(eventId));
+                channel.subscribers.forEach(subscriber -> subscriber.offer(counts));
+            } catch (DataAccessException ex) {
+                // Retried on the next flush
+                dirtyEvents.add(eventId);
+                logger.warn("Could not load attendance counts for event {}", eventId, ex);
+            }
+        }
+    }
+
+    int subscriberCount(UUID eventId) {
+        Channel channel = channels.get(eventId);
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    private void unsubscribe(UUID eventId, Subscriber subscriber) {
+        channels.computeIfPresent(eventId, (id, channel) -> {
+            if (channel.subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private static final class Channel {
+        private final ConcurrentLinkedQueue<Subscriber> subscribers = new ConcurrentLinkedQueue<>();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<AttendanceCountsResponse> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(AttendanceCountsResponse counts) {
+            if (pending.getAndSet(counts) != null && droppedUpdates != null) {
+                droppedUpdates.increment();
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!sending.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.accept(this::drain);
+            } catch (RejectedExecutionException ex) {
+                sending.set(false);
+            }
+        }
+
+        private void drain() {
+            AttendanceCountsResponse counts;
+            while ((counts = pending.getAndSet(null)) != null) {
+                try {
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(counts, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException ex) {
+                    // The client went away; the emitter callbacks remove the subscriber
+                    pending.set(null);
+                    emitter.completeWithError(ex);
+                    return;
+                }
+            }
+            sending.set(false);
+            // An offer that raced with the release above would otherwise wait for the next one
+            if (pending.get() != null) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -6,11 +6,13 @@ import com.eventmanagement.entity.AttendanceId;
 import com.eventmanagement.enums.AttendanceStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,9 +20,14 @@ import java.util.UUID;
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, AttendanceId> {
 
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT a FROM Attendance a WHERE a.event.id = :eventId AND a.deletedAt IS NULL")
     List<Attendance> findByEventId(@Param("eventId") UUID eventId);
 
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Attendance a WHERE a.event.id IN :eventIds AND a.deletedAt IS NULL")
+    List<Attendance> findByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+
     @Query("SELECT a FROM Attendance a WHERE a.user.id = :userId AND a.deletedAt IS NULL")
     Page<Attendance> findByUserId(@Param("userId") UUID userId, Pageable pageable);
 
@@ -30,6 +37,20 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Attendan
     @Query("SELECT a.status, COUNT(a) FROM Attendance a WHERE a.event.id = :eventId AND a.deletedAt IS NULL GROUP BY a.status")
     List<Object[]> countAttendanceByStatus(@Param("eventId") UUID eventId);
 
+    // Rows of [eventId, status, count]
+    @Query("SELECT a.event.id, a.status, COUNT(a) FROM Attendance a WHERE a.event.id IN :eventIds AND a.deletedAt IS NULL " +
+            "GROUP BY a.event.id, a.status")
+    List<Object[]> countAttendanceByEventIdAndStatus(@Param("eventIds") Collection<UUID> eventIds);
+
+    // A single row of [count, latest respondedAt, latest updatedAt]
+    @Query("SELECT COUNT(a), MAX(a.respondedAt), MAX(a.updatedAt) FROM Attendance a WHERE a.event.id = :eventId AND a.deletedAt IS NULL")
+    List<Object[]> findAttendanceVersion(@Param("eventId") UUID eventId);
+
+    // Rows of [eventId, count, latest respondedAt, latest updatedAt]; events without attendances have none
+    @Query("SELECT a.event.id, COUNT(a), MAX(a.respondedAt), MAX(a.updatedAt) FROM Attendance a " +
+            "WHERE a.event.id IN :eventIds AND a.deletedAt IS NULL GROUP BY a.event.id")
+    List<Object[]> findAttendanceVersions(@Param("eventIds") Collection<UUID> eventIds);
+
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Attendance a WHERE a.event.id = :eventId AND a.user.id = :userId AND a.deletedAt IS NULL")
     boolean existsByEventIdAndUserId(@Param("eventId") UUID eventId, @Param("userId") UUID userId);
 
@@ -43,6 +64,7 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Attendan
             "AND a.event.startTime > CURRENT_TIMESTAMP ORDER BY a.event.startTime ASC")
     List<Attendance> findUpcomingAttendanceByUserId(@Param("userId") UUID userId);
 
-    @Query("SELECT a FROM Attendance a WHERE a.event.id = :eventId")
+    // Native, as the soft-delete filter only applies to HQL and criteria queries
+    @Query(value = "SELECT * FROM attendance WHERE event_id = :eventId", nativeQuery = true)
     List<Attendance> findByEventIdIncludingDeleted(@Param("eventId") UUID eventId);
 }
@@ -6,18 +6,20 @@ import com.eventmanagement.entity.Event;
 import com.eventmanagement.enums.Visibility;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, EventRepositoryCustom {
 
     @Query("SELECT e FROM Event e WHERE e.deletedAt IS NULL")
     List<Event> findAllActive();
@@ -25,35 +27,53 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     @Query("SELECT e FROM Event e WHERE e.startTime > :now AND e.deletedAt IS NULL")
     List<Event> findUpcomingActiveEvents(@Param("now") LocalDateTime now);
 
-    @Query("SELECT e FROM Event e")
+    // Native, as the soft-delete filter only applies to HQL and criteria queries
+    @Query(value = "SELECT * FROM events", nativeQuery = true)
     List<Event> findAllIncludingDeleted();
 
+    @EntityGraph(attributePaths = "host")
     @Query("SELECT e FROM Event e WHERE e.host.id = :hostId AND e.deletedAt IS NULL")
     Page<Event> findByHostId(@Param("hostId") UUID hostId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "host")
     @Query("SELECT e FROM Event e WHERE e.visibility = :visibility AND e.deletedAt IS NULL")
     Page<Event> findByVisibility(@Param("visibility") Visibility visibility, Pageable pageable);
 
+    @EntityGraph(attributePaths = "host")
     @Query("SELECT e FROM Event e WHERE e.startTime > :now AND e.visibility = 'PUBLIC' AND e.deletedAt IS NULL ORDER BY e.startTime ASC")
     Page<Event> findUpcomingPublicEvents(@Param("now") LocalDateTime now, Pageable pageable);
 
-    @Query("SELECT e FROM Event e WHERE e.startTime >= :startDate AND e.endTime <= :endDate AND e.deletedAt IS NULL")
+    // period_within/period_overlaps are registered by PeriodFunctionContributor
+    @EntityGraph(attributePaths = "host")
+    @Query("SELECT e FROM Event e WHERE period_within(e.startTime, e.endTime, :startDate, :endDate) AND e.deletedAt IS NULL")
     Page<Event> findByDateRange(@Param("startDate") LocalDateTime startDate,
                                 @Param("endDate") LocalDateTime endDate,
                                 Pageable pageable);
 
+    @EntityGraph(attributePaths = "host")
+    @Query("SELECT e FROM Event e WHERE period_overlaps(e.startTime, e.endTime, :startDate, :endDate) AND e.deletedAt IS NULL")
+    Page<Event> findByDateRangeOverlapping(@Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate,
+                                           Pageable pageable);
+
+    @EntityGraph(attributePaths = "host")
+    @Query("SELECT e FROM Event e WHERE e.id IN :ids")
+    List<Event> findAllWithHostByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = "host")
     @Query("SELECT e FROM Event e WHERE LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%')) AND e.deletedAt IS NULL")
     Page<Event> findByLocationContainingIgnoreCase(@Param("location") String location, Pageable pageable);
 
+    @EntityGraph(attributePaths = "host")
     @Query("SELECT e FROM Event e JOIN e.attendances a " +
             "WHERE a.user.id = :userId AND a.deletedAt IS NULL AND e.deletedAt IS NULL")
     Page<Event> findEventsByAttendeeId(@Param("userId") UUID userId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "host")
     @Query("SELECT e FROM Event e WHERE " +
-            "(:title IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
-            "(:location IS NULL OR LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
-            "(:startDate IS NULL OR e.startTime >= :startDate) AND " +
-            "(:endDate IS NULL OR e.endTime <= :endDate) AND " +
+            "(CAST(:title AS String) IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', CAST(:title AS String), '%'))) AND " +
+            "(CAST(:location AS String) IS NULL OR LOWER(e.location) LIKE LOWER(CONCAT('%', CAST(:location AS String), '%'))) AND " +
+            "period_within(e.startTime, e.endTime, :startDate, :endDate) AND " +
             "(:visibility IS NULL OR e.visibility = :visibility) AND " +
             "(:hostId IS NULL OR e.host.id = :hostId) AND " +
             "e.deletedAt IS NULL")
@@ -65,6 +85,22 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
                                       @Param("hostId") UUID hostId,
                                       Pageable pageable);
 
+    @EntityGraph(attributePaths = "host")
+    @Query("SELECT e FROM Event e WHERE " +
+            "(CAST(:title AS String) IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', CAST(:title AS String), '%'))) AND " +
+            "(CAST(:location AS String) IS NULL OR LOWER(e.location) LIKE LOWER(CONCAT('%', CAST(:location AS String), '%'))) AND " +
+            "period_overlaps(e.startTime, e.endTime, :startDate, :endDate) AND " +
+            "(:visibility IS NULL OR e.visibility = :visibility) AND " +
+            "(:hostId IS NULL OR e.host.id = :hostId) AND " +
+            "e.deletedAt IS NULL")
+    Page<Event> findEventsWithFiltersOverlapping(@Param("title") String title,
+                                                 @Param("location") String location,
+                                                 @Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate,
+                                                 @Param("visibility") Visibility visibility,
+                                                 @Param("hostId") UUID hostId,
+                                                 Pageable pageable);
+
     @Query("SELECT new com.eventmanagement.dto.response.EventWithAttendeeCountResponse(e, COUNT(a.id)) " +
             "FROM Event e LEFT JOIN e.attendances a " +
             "WHERE e.id = :eventId AND e.deletedAt IS NULL GROUP BY e")
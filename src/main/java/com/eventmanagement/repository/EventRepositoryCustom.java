@@ -0,0 +1,67 @@
+// src/main/java/com/eventmanagement/repository/EventRepositoryCustom.java
+package com.eventmanagement.repository;
+
+import com.eventmanagement.dto.response.EventFieldsResponse;
+import com.eventmanagement.enums.EventField;
+import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.util.DateUtils;
+import com.eventmanagement.util.GeoUtils;
+import com.eventmanagement.util.ValidationUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * Coordinates of active events whose geohash starts with one of {@code cells} and that fall
+     * inside {@code box}. Null {@code startsAfter} or {@code visibility} disables that filter.
+     */
+    List<EventLocation> findLocationsInCells(List<String> cells, GeoUtils.BoundingBox box,
+                                             LocalDateTime startsAfter, Visibility visibility);
+
+    /**
+     * Active events matching {@code filter}, selecting only the columns of {@code fields}. Sort
+     * properties must be field names.
+     */
+    Page<EventFieldsResponse> findEventFields(EventFilter filter, Set<EventField> fields, Pageable pageable);
+
+    record EventLocation(UUID id, double latitude, double longitude) {
+    }
+
+    /**
+     * The criteria of the event listings; null components are not filtered on. Dates are matched
+     * as in {@code findEventsWithFilters}, or {@code findEventsWithFiltersOverlapping} when
+     * {@code overlapping} is set.
+     */
+    record EventFilter(String title, String location, LocalDateTime startDate, LocalDateTime endDate,
+                       boolean overlapping, Visibility visibility, UUID hostId, LocalDateTime startsAfter,
+                       UUID attendeeId) {
+
+        /**
+         * This filter as the listings apply it and the search cache keys it: blank text is no
+         * filter and the date bounds are widened to whole minutes.
+         */
+        public EventFilter normalized() {
+            return new EventFilter(ValidationUtils.trimToNull(title), ValidationUtils.trimToNull(location),
+                    DateUtils.floorToMinute(startDate), DateUtils.ceilToMinute(endDate), overlapping, visibility,
+                    hostId, startsAfter, attendeeId);
+        }
+
+        public static EventFilter upcoming(LocalDateTime now) {
+            return new EventFilter(null, null, null, null, false, Visibility.PUBLIC, null, now, null);
+        }
+
+        public static EventFilter hostedBy(UUID hostId) {
+            return new EventFilter(null, null, null, null, false, null, hostId, null, null);
+        }
+
+        public static EventFilter attendedBy(UUID userId) {
+            return new EventFilter(null, null, null, null, false, null, null, null, userId);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+// src/main/java/com/eventmanagement/repository/EventRepositoryImpl.java
+package com.eventmanagement.repository;
+
+import com.eventmanagement.dto.response.EventFieldsResponse;
+import com.eventmanagement.enums.EventField;
+import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.util.GeoUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+// Picked up by Spring Data as the implementation of EventRepositoryCustom
+class EventRepositoryImpl implements EventRepositoryCustom {
+
+    // Sorts after every base32 geohash character, closing each cell's prefix range
+    private static final String CELL_UPPER_BOUND = "~";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventLocation> findLocationsInCells(List<String> cells, GeoUtils.BoundingBox box,
+                                                    LocalDateTime startsAfter, Visibility visibility) {
+        if (cells.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder jpql = new StringBuilder("SELECT new com.eventmanagement.repository.EventRepositoryCustom$EventLocation(")
+                .append("e.id, e.latitude, e.longitude) FROM Event e WHERE (");
+        for (int i = 0; i < cells.size(); i++) {
+            // Prefix ranges rather than LIKE, so bound parameters can still use the B-tree
+            jpql.append(i > 0 ? " OR " : "")
+                    .append("(e.geohash >= :cellFrom").append(i).append(" AND e.geohash < :cellTo").append(i).append(')');
+        }
+        jpql.append(") AND e.latitude BETWEEN :minLat AND :maxLat");
+        if (!box.crossesAntimeridian()) {
+            jpql.append(" AND e.longitude BETWEEN :minLon AND :maxLon");
+        }
+        if (startsAfter != null) {
+            jpql.append(" AND e.startTime > :startsAfter");
+        }
+        if (visibility != null) {
+            jpql.append(" AND e.visibility = :visibility");
+        }
+        jpql.append(" AND e.deletedAt IS NULL");
+
+        TypedQuery<EventLocation> query = entityManager.createQuery(jpql.toString(), EventLocation.class);
+        for (int i = 0; i < cells.size(); i++) {
+            query.setParameter("cellFrom" + i, cells.get(i));
+            query.setParameter("cellTo" + i, cells.get(i) + CELL_UPPER_BOUND);
+        }
+        query.setParameter("minLat", box.minLat());
+        query.setParameter("maxLat", box.maxLat());
+        if (!box.crossesAntimeridian()) {
+            query.setParameter("minLon", box.minLon());
+            query.setParameter("maxLon", box.maxLon());
+        }
+        if (startsAfter != null) {
+            query.setParameter("startsAfter", startsAfter);
+        }
+        if (visibility != null) {
+            query.setParameter("visibility", visibility);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Page<EventFieldsResponse> findEventFields(EventFilter filter, Set<EventField> fields, Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(filter, parameters);
+
+        StringJoiner columns = new StringJoiner(", ");
+        for (EventField field : fields) {
+            columns.add(field.getPath() + " AS " + field.getName());
+        }
+        StringBuilder jpql = new StringBuilder("SELECT ").append(columns).append(" FROM Event e");
+        if (fields.contains(EventField.HOST_NAME)) {
+            jpql.append(" JOIN e.host h");
+        }
+        jpql.append(where);
+        if (pageable.getSort().isSorted()) {
+            StringJoiner orders = new StringJoiner(", ", " ORDER BY ", "");
+            for (Sort.Order order : pageable.getSort()) {
+                orders.add(EventField.fromName(order.getProperty()).getPath() + (order.isAscending() ? " ASC" : " DESC"));
+            }
+            jpql.append(orders);
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<EventFieldsResponse> content = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            EventFieldsResponse response = new EventFieldsResponse();
+            for (EventField field : fields) {
+                response.put(field, tuple.get(field.getName()));
+            }
+            content.add(response);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(e) FROM Event e" + where, Long.class);
+            parameters.forEach(count::setParameter);
+            return count.getSingleResult();
+        });
+    }
+
+    private static String where(EventFilter filter, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder();
+        if (filter.attendeeId() != null) {
+            where.append(" JOIN e.attendances a");
+        }
+        where.append(" WHERE e.deletedAt IS NULL");
+        if (filter.attendeeId() != null) {
+            where.append(" AND a.user.id = :attendeeId AND a.deletedAt IS NULL");
+            parameters.put("attendeeId", filter.attendeeId());
+        }
+        if (filter.title() != null) {
+            where.append(" AND LOWER(e.title) LIKE LOWER(CONCAT('%', :title, '%'))");
+            parameters.put("title", filter.title());
+        }
+        if (filter.location() != null) {
+            where.append(" AND LOWER(e.location) LIKE LOWER(CONCAT('%', :location, '%'))");
+            parameters.put("location", filter.location());
+        }
+        if (filter.startDate() != null || filter.endDate() != null) {
+            where.append(filter.overlapping() ? " AND period_overlaps" : " AND period_within")
+                    .append("(e.startTime, e.endTime, :startDate, :endDate)");
+            parameters.put("startDate", filter.startDate());
+            parameters.put("endDate", filter.endDate());
+        }
+        if (filter.startsAfter() != null) {
+            where.append(" AND e.startTime > :startsAfter");
+            parameters.put("startsAfter", filter.startsAfter());
+        }
+        if (filter.visibility() != null) {
+            where.append(" AND e.visibility = :visibility");
+            parameters.put("visibility", filter.visibility());
+        }
+        if (filter.hostId() != null) {
+            where.append(" AND e.host.id = :hostId");
+            parameters.put("hostId", filter.hostId());
+        }
+        return where.toString();
+    }
+}
@@ -4,10 +4,12 @@ package com.eventmanagement.security;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -17,7 +19,11 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    // Only id lookups are cached: they come from the JWT filter on every authenticated request,
+    // while email lookups are logins, which must see the current password
     @Override
+    @Cacheable(value = "userPrincipals", key = "#username", condition = "!#username.contains('@')", sync = true)
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user;
 
@@ -32,6 +38,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return UserPrincipal.create(user);
     }
 
+    @Transactional(readOnly = true)
     public UserDetails loadUserById(String userId) {
         User user = userRepository.findById(UUID.fromString(userId))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
@@ -39,7 +46,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return UserPrincipal.create(user);
     }
 
-    private boolean isValidUUID(String str) {
+    boolean isValidUUID(String str) {
         try {
             UUID.fromString(str);
             return true;
@@ -1,6 +1,10 @@
 // src/main/java/com/eventmanagement/security/JwtAuthenticationFilter.java
 package com.eventmanagement.security;
 
+import com.eventmanagement.config.MetricsConfig;
+import com.eventmanagement.datasource.ReadYourWritesTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -38,30 +42,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Qualifier("tokenBlacklistCacheManager")
     private CacheManager tokenBlacklistCacheManager;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private ReadYourWritesTracker readYourWritesTracker;
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Timer.Sample sample = meterRegistry != null ? Timer.start(meterRegistry) : null;
+        String outcome = "anonymous";
         try {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt)) {
                 if (isTokenBlacklisted(jwt)) {
+                    recordFilterTime(sample, "blacklisted");
                     handleBlacklistedToken(response);
                     return;
                 }
 
+                outcome = "invalid";
                 if (tokenProvider.validateToken(jwt)) {
                     authenticateUser(jwt, request);
+                    outcome = "authenticated";
                 }
             }
         } catch (Exception ex) {
+            outcome = "error";
             logger.error("Could not set user authentication in security context", ex);
         }
+        recordFilterTime(sample, outcome);
 
         filterChain.doFilter(request, response);
     }
 
+    private void recordFilterTime(Timer.Sample sample, String outcome) {
+        if (sample != null) {
+            sample.stop(Timer.builder(MetricsConfig.JWT_FILTER_TIMER)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     private boolean isTokenBlacklisted(String jwt) {
         if (tokenBlacklistCacheManager == null) {
             return false;
@@ -88,7 +114,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private void authenticateUser(String jwt, HttpServletRequest request) {
         String userId = tokenProvider.getUserIdFromToken(jwt);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+        UserDetails userDetails = readYourWritesTracker != null
+                ? readYourWritesTracker.callAs(userId, () -> userDetailsService.loadUserByUsername(userId))
+                : userDetailsService.loadUserByUsername(userId);
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
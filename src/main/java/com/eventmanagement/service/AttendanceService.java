@@ -2,6 +2,8 @@
 package com.eventmanagement.service;
 
 import com.eventmanagement.entity.Attendance;
+import com.eventmanagement.entity.AttendanceId;
+import com.eventmanagement.realtime.AttendanceStreamHub;
 import com.eventmanagement.repository.AttendanceRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -23,44 +25,46 @@ public class AttendanceService {
     @Autowired
     private FilterService filterService;
 
+    @Autowired
+    private AttendanceStreamHub attendanceStreamHub;
+
     @PersistenceContext
     private EntityManager entityManager;
 
     public void softDeleteAttendance(UUID eventId, UUID userId) {
-        filterService.enableSoftDeleteFilter();
-
         Optional<Attendance> attendance = attendanceRepository
                 .findByEventIdAndUserId(eventId, userId);
 
         if (attendance.isPresent()) {
             attendance.get().softDelete();
             attendanceRepository.save(attendance.get());
+            attendanceStreamHub.attendanceChanged(eventId);
         }
     }
 
     @Transactional(readOnly = true)
     public List<Attendance> findAllIncludingDeleted(UUID eventId) {
-        return entityManager.createQuery(
+        return filterService.withoutSoftDeleteFilter(() -> entityManager.createQuery(
                         "SELECT a FROM Attendance a WHERE a.event.id = :eventId",
                         Attendance.class)
                 .setParameter("eventId", eventId)
-                .getResultList();
+                .getResultList());
     }
 
     @Transactional(readOnly = true)
     public List<Attendance> findActiveAttendances(UUID eventId) {
-        filterService.enableSoftDeleteFilter();
         return attendanceRepository.findByEventId(eventId);
     }
 
     public void restoreAttendance(UUID eventId, UUID userId) {
         filterService.withoutSoftDeleteFilter(() -> {
             Optional<Attendance> attendance = attendanceRepository
-                    .findByEventIdAndUserId(eventId, userId);
+                    .findById(new AttendanceId(eventId, userId));
 
             if (attendance.isPresent() && attendance.get().isDeleted()) {
                 attendance.get().setDeletedAt(null);
                 attendanceRepository.save(attendance.get());
+                attendanceStreamHub.attendanceChanged(eventId);
             }
         });
     }
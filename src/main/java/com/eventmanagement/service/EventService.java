@@ -4,14 +4,21 @@ package com.eventmanagement.service;
 import com.eventmanagement.dto.request.AttendanceRequest;
 import com.eventmanagement.dto.request.CreateEventRequest;
 import com.eventmanagement.dto.request.UpdateEventRequest;
+import com.eventmanagement.dto.response.AttendanceCountsResponse;
+import com.eventmanagement.dto.response.EventBatchResponse;
 import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventDetailVersion;
+import com.eventmanagement.dto.response.EventFieldsResponse;
 import com.eventmanagement.dto.response.EventResponse;
 import com.eventmanagement.dto.response.PagedResponse;
 import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.DateRangeMode;
 import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.repository.EventRepositoryCustom.EventFilter;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface EventService {
@@ -24,16 +31,42 @@ public interface EventService {
 
     EventDetailResponse getEventDetails(UUID eventId, UUID userId);
 
+    EventDetailResponse refreshEventDetails(UUID eventId, UUID userId);
+
+    EventDetailVersion getEventDetailVersion(UUID eventId, UUID userId);
+
+    /**
+     * Details of up to {@code EventBatchRequest.MAX_IDS} events, served from the details cache
+     * where present and otherwise loaded together.
+     */
+    EventBatchResponse getEventDetailsBatch(List<UUID> eventIds, UUID userId);
+
+    AttendanceCountsResponse getAttendanceCounts(UUID eventId, UUID userId);
+
     PagedResponse<EventResponse> getAllEvents(String title, String location,
                                               LocalDateTime startDate, LocalDateTime endDate,
-                                              Visibility visibility, UUID hostId, Pageable pageable);
+                                              DateRangeMode dateMode, Visibility visibility, UUID hostId,
+                                              Pageable pageable);
 
     PagedResponse<EventResponse> getUpcomingEvents(Pageable pageable);
 
+    PagedResponse<EventResponse> getNearbyEvents(double latitude, double longitude, double radiusKm,
+                                                 boolean upcomingOnly, Visibility visibility, Pageable pageable);
+
     PagedResponse<EventResponse> getUserEvents(UUID userId, Pageable pageable);
 
     PagedResponse<EventResponse> getUserAttendingEvents(UUID userId, Pageable pageable);
 
+    /**
+     * A listing narrowed to the comma-separated {@code fields}, reading only their columns.
+     */
+    PagedResponse<EventFieldsResponse> getEventFields(EventFilter filter, String fields, Pageable pageable);
+
+    /**
+     * Narrows an already loaded listing to the comma-separated {@code fields}.
+     */
+    PagedResponse<EventFieldsResponse> selectEventFields(PagedResponse<EventResponse> events, String fields);
+
     void updateAttendance(AttendanceRequest request, UUID userId);
 
     AttendanceStatus getUserAttendanceStatus(UUID eventId, UUID userId);
@@ -2,35 +2,41 @@
 package com.eventmanagement.service;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.function.Supplier;
+
+// The soft-delete filter is auto-enabled on every session (see BaseEntity);
+// this service only provides the scoped opt-out for admin and restore paths.
 @Service
 @Transactional
 public class FilterService {
 
+    public static final String SOFT_DELETE_FILTER = "softDeleteFilter";
+
     @Autowired
     private EntityManager entityManager;
 
-    public void enableSoftDeleteFilter() {
-        Session session = entityManager.unwrap(Session.class);
-        session.enableFilter("softDeleteFilter").setParameter("isDeleted", false);
-    }
-
-    public void disableSoftDeleteFilter() {
+    public <T> T withoutSoftDeleteFilter(Supplier<T> operation) {
         Session session = entityManager.unwrap(Session.class);
-        session.disableFilter("softDeleteFilter");
+        boolean wasEnabled = session.getEnabledFilter(SOFT_DELETE_FILTER) != null;
+        session.disableFilter(SOFT_DELETE_FILTER);
+        try {
+            return operation.get();
+        } finally {
+            if (wasEnabled) {
+                session.enableFilter(SOFT_DELETE_FILTER);
+            }
+        }
     }
 
     public void withoutSoftDeleteFilter(Runnable operation) {
-        disableSoftDeleteFilter();
-        try {
+        withoutSoftDeleteFilter(() -> {
             operation.run();
-        } finally {
-            enableSoftDeleteFilter();
-        }
+            return null;
+        });
     }
 }
@@ -0,0 +1,56 @@
+// src/main/java/com/eventmanagement/service/PartitionMaintenanceService.java
+package com.eventmanagement.service;
+
+import com.eventmanagement.config.PartitioningConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(prefix = "app.partitioning", name = "enabled", havingValue = "true")
+public class PartitionMaintenanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PartitioningConfig partitioningConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.partitioning.cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        try {
+            createFuturePartitions();
+            if (partitioningConfig.isArchiveEnabled()) {
+                archiveOldPartitions();
+            }
+        } catch (DataAccessException ex) {
+            logger.error("Partition maintenance failed", ex);
+        }
+    }
+
+    private void createFuturePartitions() {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT create_future_partitions(?)", Integer.class, partitioningConfig.getMonthsAhead());
+        logger.info("Partition maintenance created {} monthly partition(s)", created);
+    }
+
+    private void archiveOldPartitions() {
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT archive_old_partitions(?)", Integer.class, partitioningConfig.getRetainMonths());
+        logger.info("Partition maintenance archived {} monthly partition(s)", archived);
+    }
+}
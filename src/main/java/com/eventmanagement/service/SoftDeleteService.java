@@ -6,7 +6,6 @@ import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,16 +18,6 @@ public class SoftDeleteService {
     @PersistenceContext
     private EntityManager entityManager;
 
-    public void enableSoftDeleteFilter() {
-        Session session = entityManager.unwrap(Session.class);
-        session.enableFilter("softDeleteFilter");
-    }
-
-    public void disableSoftDeleteFilter() {
-        Session session = entityManager.unwrap(Session.class);
-        session.disableFilter("softDeleteFilter");
-    }
-
     public <T> T softDelete(T entity) {
         if (entity instanceof User) {
             ((User) entity).setDeletedAt(LocalDateTime.now());
@@ -1,15 +1,20 @@
 // src/main/java/com/eventmanagement/service/impl/AuthServiceImpl.java
 package com.eventmanagement.service.impl;
 
+import com.eventmanagement.config.MetricsConfig;
+import com.eventmanagement.datasource.ReadYourWritesTracker;
 import com.eventmanagement.dto.request.LoginRequest;
 import com.eventmanagement.dto.request.RegisterRequest;
 import com.eventmanagement.dto.response.AuthResponse;
 import com.eventmanagement.entity.User;
+import com.eventmanagement.enums.DomainEventType;
 import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.mapper.UserMapper;
+import com.eventmanagement.outbox.OutboxPublisher;
 import com.eventmanagement.repository.UserRepository;
 import com.eventmanagement.security.JwtTokenProvider;
 import com.eventmanagement.service.AuthService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,6 +28,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 
 @Service
 @Transactional
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class AuthServiceImpl implements AuthService {
 
     @Autowired
@@ -44,6 +50,12 @@ public class AuthServiceImpl implements AuthService {
     @Qualifier("tokenBlacklistCacheManager")
     private CacheManager tokenBlacklistCacheManager;
 
+    @Autowired(required = false)
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired(required = false)
+    private OutboxPublisher outboxPublisher;
+
     @Override
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -54,6 +66,13 @@ public class AuthServiceImpl implements AuthService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
         user = userRepository.save(user);
+        if (readYourWritesTracker != null) {
+            // The new account is anonymous until its first authenticated request
+            readYourWritesTracker.pinAfterCommit(user.getId().toString());
+        }
+        if (outboxPublisher != null) {
+            outboxPublisher.publish(DomainEventType.USER_REGISTERED, user.getId(), userMapper.toResponse(user));
+        }
 
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
@@ -65,6 +84,7 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
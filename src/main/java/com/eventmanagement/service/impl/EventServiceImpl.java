@@ -1,10 +1,16 @@
 // src/main/java/com/eventmanagement/service/impl/EventServiceImpl.java
 package com.eventmanagement.service.impl;
 
+import com.eventmanagement.cache.EventSearchKeyGenerator;
+import com.eventmanagement.config.MetricsConfig;
 import com.eventmanagement.dto.request.AttendanceRequest;
 import com.eventmanagement.dto.request.CreateEventRequest;
 import com.eventmanagement.dto.request.UpdateEventRequest;
+import com.eventmanagement.dto.response.AttendanceCountsResponse;
+import com.eventmanagement.dto.response.EventBatchResponse;
 import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventDetailVersion;
+import com.eventmanagement.dto.response.EventFieldsResponse;
 import com.eventmanagement.dto.response.EventResponse;
 import com.eventmanagement.dto.response.PagedResponse;
 import com.eventmanagement.entity.Attendance;
@@ -12,36 +18,63 @@ import com.eventmanagement.entity.AttendanceId;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.DateRangeMode;
+import com.eventmanagement.enums.DomainEventType;
+import com.eventmanagement.enums.EventField;
 import com.eventmanagement.enums.Role;
 import com.eventmanagement.enums.Visibility;
 import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.exception.ResourceNotFoundException;
 import com.eventmanagement.exception.UnauthorizedException;
 import com.eventmanagement.mapper.EventMapper;
+import com.eventmanagement.outbox.OutboxPublisher;
+import com.eventmanagement.realtime.AttendanceStreamHub;
 import com.eventmanagement.repository.AttendanceRepository;
 import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.EventRepositoryCustom.EventFilter;
+import com.eventmanagement.repository.EventRepositoryCustom.EventLocation;
 import com.eventmanagement.service.AttendanceService;
 import com.eventmanagement.service.EventService;
-import com.eventmanagement.service.FilterService;
 import com.eventmanagement.service.UserService;
+import com.eventmanagement.util.GeoUtils;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class EventServiceImpl implements EventService {
 
+    private static final int MAX_NEARBY_RADIUS_KM = 500;
+    // Upper bound on geohash prefix range scans per nearby search
+    private static final int MAX_NEARBY_CELLS = 16;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -58,10 +91,19 @@ public class EventServiceImpl implements EventService {
     private EventMapper eventMapper;
 
     @Autowired
-    private FilterService filterService;
+    private AttendanceStreamHub attendanceStreamHub;
+
+    @Autowired(required = false)
+    private CacheManager cacheManager;
+
+    @Autowired(required = false)
+    private OutboxPublisher outboxPublisher;
 
     @Override
-    @CacheEvict(value = "events", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "events", allEntries = true),
+            @CacheEvict(value = "eventSearch", allEntries = true, condition = "!@outboxConfig.enabled")
+    })
     public EventResponse createEvent(CreateEventRequest request, UUID userId) {
         if (request.getStartTime().isBefore(LocalDateTime.now())) {
             throw new BadRequestException("Event start time must be in the future");
@@ -71,20 +113,23 @@ public class EventServiceImpl implements EventService {
             throw new BadRequestException("Event end time must be after start time");
         }
 
-        filterService.enableSoftDeleteFilter();
+        validateCoordinates(request.getLatitude(), request.getLongitude());
 
         User host = userService.getEntityById(userId);
         Event event = eventMapper.toEntity(request, host);
         event = eventRepository.save(event);
 
-        return eventMapper.toResponse(event);
+        EventResponse response = eventMapper.toResponse(event);
+        publish(DomainEventType.EVENT_CREATED, event.getId(), response);
+        return response;
     }
 
     @Override
-    @CacheEvict(value = "events", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "events", allEntries = true),
+            @CacheEvict(value = "eventSearch", allEntries = true, condition = "!@outboxConfig.enabled")
+    })
     public EventResponse updateEvent(UUID eventId, UpdateEventRequest request, UUID userId) {
-        filterService.enableSoftDeleteFilter();
-
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
 
@@ -105,16 +150,20 @@ public class EventServiceImpl implements EventService {
         }
 
         eventMapper.updateEntityFromRequest(request, event);
+        validateCoordinates(event.getLatitude(), event.getLongitude());
         event = eventRepository.save(event);
 
-        return eventMapper.toResponse(event);
+        EventResponse response = eventMapper.toResponse(event);
+        publish(DomainEventType.EVENT_UPDATED, event.getId(), response);
+        return response;
     }
 
     @Override
-    @CacheEvict(value = "events", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "events", allEntries = true),
+            @CacheEvict(value = "eventSearch", allEntries = true, condition = "!@outboxConfig.enabled")
+    })
     public void deleteEvent(UUID eventId, UUID userId) {
-        filterService.enableSoftDeleteFilter();
-
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
 
@@ -126,28 +175,132 @@ public class EventServiceImpl implements EventService {
 
         event.setDeletedAt(LocalDateTime.now());
         eventRepository.save(event);
+        publish(DomainEventType.EVENT_DELETED, eventId, new EventDeletion(eventId, event.getDeletedAt()));
     }
 
     @Override
-    @Cacheable(value = "events", key = "#eventId + '_' + #userId")
+    @Cacheable(value = "events", key = "#eventId + '_' + #userId", sync = true)
+    @Transactional(readOnly = true)
     public EventDetailResponse getEventDetails(UUID eventId, UUID userId) {
-        filterService.enableSoftDeleteFilter();
+        return buildEventDetails(eventId, userId);
+    }
+
+    @Override
+    @CachePut(value = "events", key = "#eventId + '_' + #userId")
+    @Transactional(readOnly = true)
+    public EventDetailResponse refreshEventDetails(UUID eventId, UUID userId) {
+        return buildEventDetails(eventId, userId);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public EventDetailVersion getEventDetailVersion(UUID eventId, UUID userId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        checkCanView(event, userId);
 
-        if (event.getVisibility() == Visibility.PRIVATE) {
-            User user = userService.getEntityById(userId);
-            boolean isHost = event.getHost().getId().equals(userId);
-            boolean isAdmin = user.getRole().equals(Role.ADMIN);
-            boolean isAttendee = attendanceRepository.existsByEventIdAndUserId(eventId, userId);
+        Object[] attendance = attendanceRepository.findAttendanceVersion(eventId).get(0);
+        return new EventDetailVersion(eventId, event.getUpdatedAt(), (Long) attendance[0],
+                (LocalDateTime) attendance[1], (LocalDateTime) attendance[2]);
+    }
 
-            if (!isHost && !isAdmin && !isAttendee) {
-                throw new UnauthorizedException("You don't have access to this private event");
+    @Override
+    @Transactional(readOnly = true)
+    public EventBatchResponse getEventDetailsBatch(List<UUID> eventIds, UUID userId) {
+        Set<UUID> requested = new LinkedHashSet<>(eventIds);
+        Cache cache = cacheManager != null ? cacheManager.getCache("events") : null;
+        Map<UUID, EventDetailResponse> details = new LinkedHashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID eventId : requested) {
+            EventDetailResponse cached = cache != null ? cache.get(detailsKey(eventId, userId), EventDetailResponse.class) : null;
+            if (cached != null) {
+                details.put(eventId, cached);
+            } else {
+                misses.add(eventId);
             }
         }
+        if (!details.isEmpty()) {
+            misses.addAll(staleDetails(details));
+        }
 
-        EventDetailResponse response = eventMapper.toDetailResponse(event);
+        Set<UUID> hidden = new HashSet<>();
+        if (!misses.isEmpty()) {
+            // One query each for the events with their hosts, the counts and the attendees,
+            // however many events are missing from the cache
+            List<Event> events = eventRepository.findAllWithHostByIdIn(misses);
+            Map<UUID, List<Attendance>> attendances = attendanceRepository.findByEventIdIn(misses).stream()
+                    .collect(Collectors.groupingBy(attendance -> attendance.getId().getEventId()));
+            Map<UUID, Map<AttendanceStatus, Long>> breakdowns = new HashMap<>();
+            for (Object[] stat : attendanceRepository.countAttendanceByEventIdAndStatus(misses)) {
+                breakdowns.computeIfAbsent((UUID) stat[0], id -> new HashMap<>()).put((AttendanceStatus) stat[1], (Long) stat[2]);
+            }
+            User user = userId != null && events.stream().anyMatch(event -> event.getVisibility() == Visibility.PRIVATE)
+                    ? userService.getEntityById(userId) : null;
+
+            for (Event event : events) {
+                List<Attendance> eventAttendances = attendances.getOrDefault(event.getId(), List.of());
+                if (!canView(event, user, eventAttendances)) {
+                    hidden.add(event.getId());
+                    continue;
+                }
+                EventDetailResponse response = toEventDetails(event,
+                        breakdowns.getOrDefault(event.getId(), new HashMap<>()), eventAttendances);
+                details.put(event.getId(), response);
+                if (cache != null) {
+                    cache.put(detailsKey(event.getId(), userId), response);
+                }
+            }
+        }
+
+        List<EventDetailResponse> found = new ArrayList<>(details.size());
+        List<UUID> notFound = new ArrayList<>();
+        List<UUID> forbidden = new ArrayList<>();
+        for (UUID eventId : requested) {
+            EventDetailResponse response = details.get(eventId);
+            if (response != null) {
+                found.add(response);
+            } else if (hidden.contains(eventId)) {
+                forbidden.add(eventId);
+            } else {
+                notFound.add(eventId);
+            }
+        }
+        return new EventBatchResponse(found, notFound, forbidden);
+    }
+
+    /**
+     * Removes and returns the cached details that predate an attendance change, which does not
+     * evict them; event changes do. Checked like {@link #getEventDetailVersion}, in one query.
+     */
+    private List<UUID> staleDetails(Map<UUID, EventDetailResponse> details) {
+        Map<UUID, Object[]> attendance = new HashMap<>();
+        for (Object[] row : attendanceRepository.findAttendanceVersions(details.keySet())) {
+            attendance.put((UUID) row[0], row);
+        }
+        List<UUID> stale = new ArrayList<>();
+        for (Map.Entry<UUID, EventDetailResponse> entry : details.entrySet()) {
+            Object[] row = attendance.get(entry.getKey());
+            EventDetailVersion version = row == null
+                    ? new EventDetailVersion(entry.getKey(), entry.getValue().getUpdatedAt(), 0, null, null)
+                    : new EventDetailVersion(entry.getKey(), entry.getValue().getUpdatedAt(), (Long) row[1],
+                            (LocalDateTime) row[2], (LocalDateTime) row[3]);
+            if (!version.matches(entry.getValue())) {
+                stale.add(entry.getKey());
+            }
+        }
+        stale.forEach(details::remove);
+        return stale;
+    }
+
+    // The key getEventDetails is cached under
+    private static String detailsKey(UUID eventId, UUID userId) {
+        return eventId + "_" + userId;
+    }
+
+    private EventDetailResponse buildEventDetails(UUID eventId, UUID userId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        checkCanView(event, userId);
 
         List<Object[]> attendanceStats = attendanceRepository.countAttendanceByStatus(eventId);
         Map<AttendanceStatus, Long> attendanceBreakdown = attendanceStats.stream()
@@ -156,10 +309,16 @@ public class EventServiceImpl implements EventService {
                         stat -> (Long) stat[1]
                 ));
 
+        return toEventDetails(event, attendanceBreakdown, attendanceService.findActiveAttendances(eventId));
+    }
+
+    private EventDetailResponse toEventDetails(Event event, Map<AttendanceStatus, Long> attendanceBreakdown,
+                                               List<Attendance> attendances) {
+        EventDetailResponse response = eventMapper.toDetailResponse(event);
+
         response.setAttendanceBreakdown(attendanceBreakdown);
         response.setAttendeeCount(attendanceBreakdown.values().stream().mapToLong(Long::longValue).sum());
 
-        List<Attendance> attendances = attendanceService.findActiveAttendances(eventId);
         List<EventDetailResponse.AttendeeResponse> attendees = attendances.stream()
                 .map(attendance -> new EventDetailResponse.AttendeeResponse(
                         attendance.getUser().getId(),
@@ -175,47 +334,161 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    @Cacheable(value = "events")
+    @Transactional(readOnly = true)
+    public AttendanceCountsResponse getAttendanceCounts(UUID eventId, UUID userId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        checkCanView(event, userId);
+
+        return AttendanceCountsResponse.fromStatusCounts(eventId, attendanceRepository.countAttendanceByStatus(eventId));
+    }
+
+    // checkCanView for an event whose active attendances are loaded, with the caller's user
+    // looked up once for the whole batch
+    private static boolean canView(Event event, User user, List<Attendance> attendances) {
+        if (event.getVisibility() != Visibility.PRIVATE) {
+            return true;
+        }
+        if (user == null) {
+            return false;
+        }
+        return event.getHost().getId().equals(user.getId())
+                || user.getRole().equals(Role.ADMIN)
+                || attendances.stream().anyMatch(attendance -> attendance.getId().getUserId().equals(user.getId()));
+    }
+
+    private void checkCanView(Event event, UUID userId) {
+        if (event.getVisibility() != Visibility.PRIVATE) {
+            return;
+        }
+        if (userId == null) {
+            throw new UnauthorizedException("You don't have access to this private event");
+        }
+        User user = userService.getEntityById(userId);
+        boolean isHost = event.getHost().getId().equals(userId);
+        boolean isAdmin = user.getRole().equals(Role.ADMIN);
+        boolean isAttendee = attendanceRepository.existsByEventIdAndUserId(event.getId(), userId);
+
+        if (!isHost && !isAdmin && !isAttendee) {
+            throw new UnauthorizedException("You don't have access to this private event");
+        }
+    }
+
+    @Override
+    @Cacheable(value = "eventSearch", keyGenerator = EventSearchKeyGenerator.BEAN_NAME, sync = true)
+    @Transactional(readOnly = true)
     public PagedResponse<EventResponse> getAllEvents(String title, String location,
                                                      LocalDateTime startDate, LocalDateTime endDate,
-                                                     Visibility visibility, UUID hostId, Pageable pageable) {
-        filterService.enableSoftDeleteFilter();
-
-        Page<Event> events = eventRepository.findEventsWithFilters(
-                title, location, startDate, endDate, visibility, hostId, pageable);
+                                                     DateRangeMode dateMode, Visibility visibility, UUID hostId,
+                                                     Pageable pageable) {
+        // Filters are applied exactly as the cache key normalizes them
+        EventFilter filter = new EventFilter(title, location, startDate, endDate, dateMode == DateRangeMode.OVERLAPS,
+                visibility, hostId, null, null).normalized();
+        Page<Event> events = filter.overlapping()
+                ? eventRepository.findEventsWithFiltersOverlapping(filter.title(), filter.location(),
+                        filter.startDate(), filter.endDate(), visibility, hostId, pageable)
+                : eventRepository.findEventsWithFilters(filter.title(), filter.location(),
+                        filter.startDate(), filter.endDate(), visibility, hostId, pageable);
 
         return createPagedResponse(events);
     }
 
     @Override
-    @Cacheable(value = "upcomingEvents")
+    @Cacheable(value = "upcomingEvents", sync = true)
+    @Transactional(readOnly = true)
     public PagedResponse<EventResponse> getUpcomingEvents(Pageable pageable) {
-        filterService.enableSoftDeleteFilter();
-
         Page<Event> events = eventRepository.findUpcomingPublicEvents(LocalDateTime.now(), pageable);
         return createPagedResponse(events);
     }
 
     @Override
-    public PagedResponse<EventResponse> getUserEvents(UUID userId, Pageable pageable) {
-        filterService.enableSoftDeleteFilter();
+    @Transactional(readOnly = true)
+    public PagedResponse<EventResponse> getNearbyEvents(double latitude, double longitude, double radiusKm,
+                                                        boolean upcomingOnly, Visibility visibility,
+                                                        Pageable pageable) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new BadRequestException("Radius must be greater than 0 and at most " + MAX_NEARBY_RADIUS_KM + " km");
+        }
+
+        // Only coordinates are read for the candidates; full rows are loaded for the requested page
+        List<EventLocation> candidates = eventRepository.findLocationsInCells(
+                GeoUtils.coveringCells(latitude, longitude, radiusKm, MAX_NEARBY_CELLS),
+                GeoUtils.boundingBox(latitude, longitude, radiusKm),
+                upcomingOnly ? LocalDateTime.now() : null, visibility);
+        List<NearbyEvent> nearby = new ArrayList<>();
+        for (EventLocation candidate : candidates) {
+            double distance = GeoUtils.distanceKm(latitude, longitude, candidate.latitude(), candidate.longitude());
+            if (distance <= radiusKm) {
+                nearby.add(new NearbyEvent(candidate.id(), distance));
+            }
+        }
+        nearby.sort(Comparator.comparingDouble(NearbyEvent::distanceKm).thenComparing(NearbyEvent::id));
+
+        int from = (int) Math.min(pageable.getOffset(), nearby.size());
+        List<NearbyEvent> page = nearby.subList(from, Math.min(from + pageable.getPageSize(), nearby.size()));
+        Map<UUID, Event> events = eventRepository.findAllWithHostByIdIn(page.stream().map(NearbyEvent::id).toList())
+                .stream().collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<EventResponse> content = new ArrayList<>(page.size());
+        for (NearbyEvent entry : page) {
+            Event event = events.get(entry.id());
+            if (event != null) {
+                EventResponse response = eventMapper.toResponse(event);
+                response.setDistanceKm(entry.distanceKm());
+                content.add(response);
+            }
+        }
+        int totalPages = (nearby.size() + pageable.getPageSize() - 1) / pageable.getPageSize();
+        return new PagedResponse<>(content, pageable.getPageNumber(), pageable.getPageSize(), nearby.size(), totalPages);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<EventResponse> getUserEvents(UUID userId, Pageable pageable) {
         Page<Event> events = eventRepository.findByHostId(userId, pageable);
         return createPagedResponse(events);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PagedResponse<EventResponse> getUserAttendingEvents(UUID userId, Pageable pageable) {
-        filterService.enableSoftDeleteFilter();
-
         Page<Event> events = eventRepository.findEventsByAttendeeId(userId, pageable);
         return createPagedResponse(events);
     }
 
     @Override
-    public void updateAttendance(AttendanceRequest request, UUID userId) {
-        filterService.enableSoftDeleteFilter();
+    @Transactional(readOnly = true)
+    public PagedResponse<EventFieldsResponse> getEventFields(EventFilter filter, String fields, Pageable pageable) {
+        Set<EventField> selected = parseFields(fields);
+        for (Sort.Order order : pageable.getSort()) {
+            try {
+                EventField.fromName(order.getProperty());
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("Cannot sort by '" + order.getProperty() + "'");
+            }
+        }
+        Page<EventFieldsResponse> events = eventRepository.findEventFields(filter.normalized(), selected, pageable);
+        return new PagedResponse<>(events.getContent(), events.getNumber(), events.getSize(),
+                events.getTotalElements(), events.getTotalPages());
+    }
+
+    @Override
+    // Works on loaded data only, e.g. from the catalog, so no transaction is started for it
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PagedResponse<EventFieldsResponse> selectEventFields(PagedResponse<EventResponse> events, String fields) {
+        Set<EventField> selected = parseFields(fields);
+        List<EventFieldsResponse> content = new ArrayList<>(events.getContent().size());
+        for (EventResponse event : events.getContent()) {
+            content.add(EventFieldsResponse.of(event, selected));
+        }
+        return new PagedResponse<>(content, events.getPage(), events.getSize(), events.getTotalElements(),
+                events.getTotalPages());
+    }
 
+    @Override
+    public void updateAttendance(AttendanceRequest request, UUID userId) {
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", request.getEventId()));
 
@@ -238,17 +511,42 @@ public class EventServiceImpl implements EventService {
         attendance.setRespondedAt(LocalDateTime.now());
 
         attendanceRepository.save(attendance);
+        attendanceStreamHub.attendanceChanged(request.getEventId());
+        publish(DomainEventType.ATTENDANCE_CHANGED, request.getEventId(), new AttendanceChange(request.getEventId(),
+                userId, attendance.getStatus(), attendance.getRespondedAt()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AttendanceStatus getUserAttendanceStatus(UUID eventId, UUID userId) {
-        filterService.enableSoftDeleteFilter();
-
         return attendanceRepository.findByEventIdAndUserId(eventId, userId)
                 .map(Attendance::getStatus)
                 .orElse(AttendanceStatus.NONE);
     }
 
+    private void validateCoordinates(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new BadRequestException("Latitude and longitude must be provided together");
+        }
+    }
+
+    private void publish(DomainEventType type, UUID eventId, Object payload) {
+        if (outboxPublisher != null) {
+            outboxPublisher.publish(type, eventId, payload);
+        }
+    }
+
+    private record NearbyEvent(UUID id, double distanceKm) {
+    }
+
+    private static Set<EventField> parseFields(String fields) {
+        try {
+            return EventField.parse(fields);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(ex.getMessage());
+        }
+    }
+
     private PagedResponse<EventResponse> createPagedResponse(Page<Event> events) {
         List<EventResponse> content = eventMapper.toResponseList(events.getContent());
         return new PagedResponse<>(
@@ -259,4 +557,10 @@ public class EventServiceImpl implements EventService {
                 events.getTotalPages()
         );
     }
+
+    private record EventDeletion(UUID id, LocalDateTime deletedAt) {
+    }
+
+    private record AttendanceChange(UUID eventId, UUID userId, AttendanceStatus status, LocalDateTime respondedAt) {
+    }
 }
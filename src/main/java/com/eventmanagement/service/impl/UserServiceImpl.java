@@ -1,13 +1,18 @@
 // src/main/java/com/eventmanagement/service/impl/UserServiceImpl.java
 package com.eventmanagement.service.impl;
 
+import com.eventmanagement.config.MetricsConfig;
 import com.eventmanagement.dto.response.UserResponse;
 import com.eventmanagement.entity.User;
+import com.eventmanagement.enums.DomainEventType;
 import com.eventmanagement.exception.ResourceNotFoundException;
 import com.eventmanagement.mapper.UserMapper;
+import com.eventmanagement.outbox.OutboxPublisher;
 import com.eventmanagement.repository.UserRepository;
 import com.eventmanagement.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +23,7 @@ import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class UserServiceImpl implements UserService {
 
     @Autowired
@@ -26,7 +32,11 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserMapper userMapper;
 
+    @Autowired(required = false)
+    private OutboxPublisher outboxPublisher;
+
     @Override
+    @Transactional(readOnly = true)
     public UserResponse getUserById(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
@@ -34,6 +44,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(userMapper::toResponse)
@@ -41,11 +52,15 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(value = "userPrincipals", key = "#userId.toString()")
     public void deactivateUser(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        if (outboxPublisher != null) {
+            outboxPublisher.publish(DomainEventType.USER_DEACTIVATED, userId, userMapper.toResponse(user));
+        }
     }
 
     @Override
@@ -0,0 +1,109 @@
+// src/main/java/com/eventmanagement/util/CountMinSketch.java
+package com.eventmanagement.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fixed-memory frequency estimate for 64-bit hashes. Estimates never undercount; they
+ * overcount by at most {@code e / width} of all additions with probability
+ * {@code 1 - e^-depth}. Hashes must already be well mixed; adding is thread-safe and lock-free.
+ * {@link #halve()} ages the counts so that recent activity outweighs old.
+ */
+public final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0x27D4EB2F165667C5L, 0x85EBCA77C2B2AE63L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int depth;
+    private final int width;
+    private final AtomicIntegerArray counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + SEEDS.length);
+        }
+        if (width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Width must be a power of two");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicIntegerArray(depth * width);
+    }
+
+    /**
+     * Counts one occurrence and returns the new estimate.
+     */
+    public int add(long hash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, hash);
+            int current;
+            do {
+                current = counters.get(index);
+            } while (current < Integer.MAX_VALUE && !counters.compareAndSet(index, current, current + 1));
+            estimate = Math.min(estimate, current == Integer.MAX_VALUE ? current : current + 1);
+        }
+        return estimate;
+    }
+
+    public int estimate(long hash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halves every counter. Concurrent additions may be halved or not, which is fine for an
+     * estimate.
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            int current;
+            do {
+                current = counters.get(i);
+            } while (current != 0 && !counters.compareAndSet(i, current, current >>> 1));
+        }
+    }
+
+    public boolean hasSameDimensions(CountMinSketch other) {
+        return depth == other.depth && width == other.width;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 4 * counters.length());
+        buffer.putInt(depth).putInt(width);
+        for (int i = 0; i < counters.length(); i++) {
+            buffer.putInt(counters.get(i));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reads a sketch written by {@link #toBytes()}.
+     */
+    public static CountMinSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CountMinSketch sketch = new CountMinSketch(buffer.getInt(), buffer.getInt());
+        if (buffer.remaining() != 4 * sketch.counters.length()) {
+            throw new IllegalArgumentException("Sketch data is truncated");
+        }
+        for (int i = 0; i < sketch.counters.length(); i++) {
+            sketch.counters.set(i, buffer.getInt());
+        }
+        return sketch;
+    }
+
+    private int index(int row, long hash) {
+        // Each row needs an independent index, so the seeded hash is remixed per row
+        long mixed = hash ^ SEEDS[row];
+        mixed = (mixed ^ (mixed >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        mixed ^= mixed >>> 33;
+        return row * width + ((int) mixed & (width - 1));
+    }
+}
@@ -4,6 +4,7 @@ package com.eventmanagement.util;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 public class DateUtils {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
@@ -27,4 +28,17 @@ public class DateUtils {
         if (dateTime == null) return false;
         return dateTime.isBefore(LocalDateTime.now(clock));
     }
+
+    public static LocalDateTime floorToMinute(LocalDateTime dateTime) {
+        if (dateTime == null) return null;
+        return dateTime.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Last microsecond of the minute, the finest instant PostgreSQL timestamps can hold.
+     */
+    public static LocalDateTime ceilToMinute(LocalDateTime dateTime) {
+        if (dateTime == null) return null;
+        return dateTime.truncatedTo(ChronoUnit.MINUTES).plusSeconds(59).plusNanos(999_999_000);
+    }
 }
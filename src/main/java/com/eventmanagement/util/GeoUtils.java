@@ -0,0 +1,132 @@
+// src/main/java/com/eventmanagement/util/GeoUtils.java
+package com.eventmanagement.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+public final class GeoUtils {
+
+    public static final int GEOHASH_PRECISION = 12;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private GeoUtils() {
+    }
+
+    public static String geohash(double latitude, double longitude, int precision) {
+        double minLat = -90;
+        double maxLat = 90;
+        double minLon = -180;
+        double maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Geohash cells, all of one precision, that together cover the bounding box of the circle.
+     * The finest precision that needs at most {@code maxCells} cells is chosen, so each cell is a
+     * single prefix range scan on a geohash B-tree index.
+     */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusKm, int maxCells) {
+        BoundingBox box = boundingBox(latitude, longitude, radiusKm);
+        for (int precision = GEOHASH_PRECISION; precision >= 1; precision--) {
+            double cellHeight = 180.0 / (1L << latBits(precision));
+            double cellWidth = 360.0 / (1L << lonBits(precision));
+            long rows = (long) Math.ceil((box.maxLat() - box.minLat()) / cellHeight) + 1;
+            long columns = (long) Math.ceil((box.maxLon() - box.minLon()) / cellWidth) + 1;
+            if (rows * columns > maxCells && precision > 1) {
+                continue;
+            }
+            TreeSet<String> cells = new TreeSet<>();
+            for (long row = 0; row < rows; row++) {
+                double lat = Math.min(box.minLat() + row * cellHeight, box.maxLat());
+                for (long column = 0; column < columns; column++) {
+                    double lon = Math.min(box.minLon() + column * cellWidth, box.maxLon());
+                    cells.add(geohash(lat, normalizeLongitude(lon), precision));
+                }
+            }
+            return new ArrayList<>(cells);
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /**
+     * Latitude/longitude box enclosing the circle. Longitudes are not wrapped, so a box that
+     * crosses the antimeridian extends past +/-180; near the poles it spans every longitude.
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90, latitude - dLat);
+        double maxLat = Math.min(90, latitude + dLat);
+        if (minLat == -90 || maxLat == 90) {
+            return new BoundingBox(minLat, maxLat, -180, 180);
+        }
+        double dLon = Math.toDegrees(Math.asin(Math.min(1, Math.sin(radiusKm / EARTH_RADIUS_KM)
+                / Math.cos(Math.toRadians(latitude)))));
+        if (dLon >= 180) {
+            return new BoundingBox(minLat, maxLat, -180, 180);
+        }
+        return new BoundingBox(minLat, maxLat, longitude - dLon, longitude + dLon);
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        double normalized = ((longitude + 180) % 360 + 360) % 360 - 180;
+        return normalized == 180 ? -180 : normalized;
+    }
+
+    private static int lonBits(int precision) {
+        return (precision * 5 + 1) / 2;
+    }
+
+    private static int latBits(int precision) {
+        return precision * 5 / 2;
+    }
+
+    public record BoundingBox(double minLat, double maxLat, double minLon, double maxLon) {
+
+        public boolean crossesAntimeridian() {
+            return minLon < -180 || maxLon > 180;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+// src/main/java/com/eventmanagement/util/HyperLogLog.java
+package com.eventmanagement.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fixed-memory estimate of the number of distinct 64-bit hashes added. With the default 2^12
+ * registers it uses 16 KB and is typically within 2% of the true count. Hashes must already be
+ * well mixed; adding is thread-safe and lock-free.
+ */
+public final class HyperLogLog {
+
+    private final int precision;
+    private final AtomicIntegerArray registers;
+
+    public HyperLogLog() {
+        this(12);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18");
+        }
+        this.precision = precision;
+        this.registers = new AtomicIntegerArray(1 << precision);
+    }
+
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Position of the first set bit in the remaining bits, capped when they are all zero
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), 64 - precision) + 1;
+        int current;
+        while ((current = registers.get(index)) < rank) {
+            if (registers.compareAndSet(index, current, rank)) {
+                return;
+            }
+        }
+    }
+
+    public long estimate() {
+        return estimate(this, null);
+    }
+
+    /**
+     * Distinct hashes added to either sketch; both must have the same precision.
+     */
+    public long estimateUnion(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Sketches differ in precision");
+        }
+        return estimate(this, other);
+    }
+
+    private static long estimate(HyperLogLog sketch, HyperLogLog other) {
+        int m = sketch.registers.length();
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < m; i++) {
+            int register = sketch.registers.get(i);
+            if (other != null) {
+                register = Math.max(register, other.registers.get(i));
+            }
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double raw = alpha * m * m / sum;
+        if (raw <= 2.5 * m && zeros > 0) {
+            // Linear counting is more accurate while many registers are still empty
+            return Math.round(m * Math.log((double) m / zeros));
+        }
+        return Math.round(raw);
+    }
+}
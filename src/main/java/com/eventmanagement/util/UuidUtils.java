@@ -0,0 +1,41 @@
+// src/main/java/com/eventmanagement/util/UuidUtils.java
+package com.eventmanagement.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidUtils {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Unix millis in the upper bits, 12-bit per-millisecond counter (rand_a) in the lower bits
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    private UuidUtils() {
+    }
+
+    /**
+     * RFC 9562 version 7 UUID. Values generated by this JVM are strictly increasing, so
+     * inserts append to the right-hand side of B-tree indexes instead of splitting random pages.
+     */
+    public static UUID randomV7() {
+        return randomV7(System.currentTimeMillis());
+    }
+
+    static UUID randomV7(long unixMillis) {
+        // A clock step backwards or counter overflow borrows from the next millisecond
+        long state = LAST_STATE.updateAndGet(previous -> Math.max(unixMillis << 12, previous + 1));
+
+        long mostSigBits = ((state >>> 12) << 16) | 0x7000L | (state & 0xFFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
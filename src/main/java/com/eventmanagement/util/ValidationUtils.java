@@ -19,4 +19,8 @@ public class ValidationUtils {
     public static boolean isNotBlank(String str) {
         return str != null && !str.trim().isEmpty();
     }
+
+    public static String trimToNull(String str) {
+        return isNotBlank(str) ? str.trim() : null;
+    }
 }
@@ -0,0 +1,11 @@
+-- V10__Create_cache_access_sketches_table.sql
+-- Access-frequency sketches saved by the application at shutdown and read back by the next
+-- instance to start, which preloads the most requested entries into its caches. One row per
+-- sketch; the last instance to stop overwrites it.
+
+CREATE TABLE cache_access_sketches (
+    name VARCHAR(64) PRIMARY KEY,
+    sketch BYTEA NOT NULL,
+    candidates UUID[] NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
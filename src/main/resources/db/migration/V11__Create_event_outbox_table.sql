@@ -0,0 +1,19 @@
+-- V11__Create_event_outbox_table.sql
+-- Transactional outbox: domain events written in the same transaction as the change they
+-- describe, then relayed to in-process subscribers and deleted. Rows of one aggregate are
+-- committed in id order, so the relay delivers them in that order.
+
+CREATE TABLE event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT
+);
+
+-- Finds the earliest pending row of an aggregate
+CREATE INDEX idx_event_outbox_aggregate ON event_outbox(aggregate_id, id);
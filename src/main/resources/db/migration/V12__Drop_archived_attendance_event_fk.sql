@@ -0,0 +1,43 @@
+-- V12__Drop_archived_attendance_event_fk.sql
+-- A detached attendance partition keeps its own copy of fk_attendance_event, still
+-- referencing the events parent, and detaching the matching events partition then checks
+-- that copy against the archived rows. archive_old_partitions now drops the copy first, so
+-- an archived month holds no foreign key into the live events table.
+
+CREATE OR REPLACE FUNCTION archive_old_partitions(p_retain_months INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    v_cutoff TIMESTAMP := date_trunc('month', LOCALTIMESTAMP) - make_interval(months => p_retain_months);
+    v_partition RECORD;
+    v_attendance TEXT;
+    v_constraint NAME;
+    v_archived INTEGER := 0;
+BEGIN
+    FOR v_partition IN
+        SELECT c.relname AS name,
+               to_timestamp(substring(c.relname FROM '(\d{4}_\d{2})$'), 'YYYY_MM')::timestamp AS month_start
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'events'::regclass
+          AND c.relname ~ '^events_\d{4}_\d{2}$'
+        ORDER BY c.relname
+    LOOP
+        CONTINUE WHEN v_partition.month_start + INTERVAL '1 month' > v_cutoff;
+        v_attendance := 'attendance_' || to_char(v_partition.month_start, 'YYYY_MM');
+
+        EXECUTE format('ALTER TABLE attendance DETACH PARTITION %I', v_attendance);
+        FOR v_constraint IN
+            SELECT conname FROM pg_constraint
+            WHERE conrelid = v_attendance::regclass
+              AND contype = 'f'
+              AND confrelid = 'events'::regclass
+        LOOP
+            EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', v_attendance, v_constraint);
+        END LOOP;
+        EXECUTE format('ALTER TABLE events DETACH PARTITION %I', v_partition.name);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA archive', v_attendance);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA archive', v_partition.name);
+        v_archived := v_archived + 1;
+    END LOOP;
+    RETURN v_archived;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,28 @@
+-- V4__Add_soft_delete_partial_indexes.sql
+-- Almost every query filters on deleted_at IS NULL, so the standalone
+-- deleted_at/start_time/visibility/host_id indexes are replaced with
+-- partial composite indexes that match the real access paths.
+
+DROP INDEX IF EXISTS idx_users_deleted_at;
+
+DROP INDEX IF EXISTS idx_events_deleted_at;
+DROP INDEX IF EXISTS idx_events_start_time;
+DROP INDEX IF EXISTS idx_events_visibility;
+DROP INDEX IF EXISTS idx_events_host_id;
+
+DROP INDEX IF EXISTS idx_attendance_deleted_at;
+DROP INDEX IF EXISTS idx_attendance_user_id;
+-- Covered by the (event_id, user_id) primary key
+DROP INDEX IF EXISTS idx_attendance_event_id;
+
+-- findUpcomingPublicEvents
+CREATE INDEX idx_events_upcoming_public ON events(start_time, id)
+    WHERE deleted_at IS NULL AND visibility = 'PUBLIC';
+
+-- /my-events (findByHostId ordered by created_at DESC)
+CREATE INDEX idx_events_host_created ON events(host_id, created_at DESC)
+    WHERE deleted_at IS NULL;
+
+-- /attending and per-user attendance lookups
+CREATE INDEX idx_attendance_user_event ON attendance(user_id, event_id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,174 @@
+-- V5__Partition_events_and_attendance.sql
+-- Range-partitions events by start_time month and co-partitions attendance on the
+-- owning event's start_time. Requires PostgreSQL 15+ so that cross-partition
+-- updates of events.start_time cascade to attendance as updates.
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+ALTER TABLE attendance RENAME TO attendance_legacy;
+ALTER TABLE events RENAME TO events_legacy;
+ALTER INDEX attendance_pkey RENAME TO attendance_legacy_pkey;
+ALTER INDEX events_pkey RENAME TO events_legacy_pkey;
+
+DROP INDEX IF EXISTS idx_events_location;
+DROP INDEX IF EXISTS idx_events_upcoming_public;
+DROP INDEX IF EXISTS idx_events_host_created;
+DROP INDEX IF EXISTS idx_attendance_user_event;
+DROP INDEX IF EXISTS idx_attendance_status;
+
+CREATE TABLE events (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    host_id UUID NOT NULL REFERENCES users(id),
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    location VARCHAR(500) NOT NULL,
+    visibility VARCHAR(20) NOT NULL DEFAULT 'PUBLIC',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP NULL,
+
+    CONSTRAINT events_pkey PRIMARY KEY (id, start_time),
+    CONSTRAINT chk_event_times CHECK (end_time > start_time)
+) PARTITION BY RANGE (start_time);
+
+CREATE TABLE attendance (
+    event_id UUID NOT NULL,
+    user_id UUID NOT NULL REFERENCES users(id),
+    event_start_time TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'GOING',
+    responded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP NULL,
+
+    CONSTRAINT attendance_pkey PRIMARY KEY (event_id, user_id, event_start_time),
+    CONSTRAINT fk_attendance_event FOREIGN KEY (event_id, event_start_time)
+        REFERENCES events(id, start_time)
+        ON UPDATE CASCADE
+) PARTITION BY RANGE (event_start_time);
+
+-- Rows outside the maintained window land here until their month's partition is created
+CREATE TABLE events_default PARTITION OF events DEFAULT;
+CREATE TABLE attendance_default PARTITION OF attendance DEFAULT;
+
+CREATE INDEX idx_events_upcoming_public ON events(start_time, id)
+    WHERE deleted_at IS NULL AND visibility = 'PUBLIC';
+CREATE INDEX idx_events_host_created ON events(host_id, created_at DESC)
+    WHERE deleted_at IS NULL;
+CREATE INDEX idx_events_location ON events(location);
+
+CREATE INDEX idx_attendance_user_event ON attendance(user_id, event_id)
+    WHERE deleted_at IS NULL;
+CREATE INDEX idx_attendance_status ON attendance(status);
+
+-- Creates the events/attendance partitions for the month containing p_month.
+-- Rows already parked in the default partitions for that month are moved across.
+CREATE OR REPLACE FUNCTION create_monthly_partition(p_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month);
+    v_to TIMESTAMP := date_trunc('month', p_month) + INTERVAL '1 month';
+    v_events TEXT := 'events_' || to_char(v_from, 'YYYY_MM');
+    v_attendance TEXT := 'attendance_' || to_char(v_from, 'YYYY_MM');
+BEGIN
+    IF to_regclass(v_events) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM events_default WHERE start_time >= v_from AND start_time < v_to) THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF events FOR VALUES FROM (%L) TO (%L)',
+                       v_events, v_from, v_to);
+        EXECUTE format('CREATE TABLE %I PARTITION OF attendance FOR VALUES FROM (%L) TO (%L)',
+                       v_attendance, v_from, v_to);
+        RETURN TRUE;
+    END IF;
+
+    -- Attendance rows are moved out first so that no attached row references the
+    -- events being moved when they are deleted from the default partition.
+    EXECUTE format('CREATE TABLE %I (LIKE events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_events);
+    EXECUTE format('CREATE TABLE %I (LIKE attendance INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_attendance);
+
+    EXECUTE format('WITH moved AS (DELETE FROM attendance_default WHERE event_start_time >= %L AND event_start_time < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved', v_from, v_to, v_attendance);
+    EXECUTE format('WITH moved AS (DELETE FROM events_default WHERE start_time >= %L AND start_time < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved', v_from, v_to, v_events);
+
+    EXECUTE format('ALTER TABLE events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   v_events, v_from, v_to);
+    EXECUTE format('ALTER TABLE attendance ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   v_attendance, v_from, v_to);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Ensures partitions exist from the current month through p_months_ahead months out.
+CREATE OR REPLACE FUNCTION create_future_partitions(p_months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    v_month DATE;
+    v_created INTEGER := 0;
+BEGIN
+    FOR v_month IN
+        SELECT generate_series(date_trunc('month', LOCALTIMESTAMP),
+                               date_trunc('month', LOCALTIMESTAMP) + make_interval(months => p_months_ahead),
+                               INTERVAL '1 month')::date
+    LOOP
+        IF create_monthly_partition(v_month) THEN
+            v_created := v_created + 1;
+        END IF;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches monthly partitions that ended more than p_retain_months ago and moves them
+-- into the archive schema, where they can be dumped or dropped independently.
+CREATE OR REPLACE FUNCTION archive_old_partitions(p_retain_months INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    v_cutoff TIMESTAMP := date_trunc('month', LOCALTIMESTAMP) - make_interval(months => p_retain_months);
+    v_partition RECORD;
+    v_archived INTEGER := 0;
+BEGIN
+    FOR v_partition IN
+        SELECT c.relname AS name,
+               to_timestamp(substring(c.relname FROM '(\d{4}_\d{2})$'), 'YYYY_MM')::timestamp AS month_start
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'events'::regclass
+          AND c.relname ~ '^events_\d{4}_\d{2}$'
+        ORDER BY c.relname
+    LOOP
+        CONTINUE WHEN v_partition.month_start + INTERVAL '1 month' > v_cutoff;
+
+        EXECUTE format('ALTER TABLE attendance DETACH PARTITION %I',
+                       'attendance_' || to_char(v_partition.month_start, 'YYYY_MM'));
+        EXECUTE format('ALTER TABLE events DETACH PARTITION %I', v_partition.name);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA archive',
+                       'attendance_' || to_char(v_partition.month_start, 'YYYY_MM'));
+        EXECUTE format('ALTER TABLE %I SET SCHEMA archive', v_partition.name);
+        v_archived := v_archived + 1;
+    END LOOP;
+    RETURN v_archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for existing data plus three months ahead, then copy the data across
+SELECT create_monthly_partition(m::date)
+FROM generate_series(
+        date_trunc('month', LEAST(COALESCE((SELECT min(start_time) FROM events_legacy), LOCALTIMESTAMP), LOCALTIMESTAMP)),
+        date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months',
+        INTERVAL '1 month') m;
+
+INSERT INTO events (id, title, description, host_id, start_time, end_time, location, visibility,
+                    created_at, updated_at, deleted_at)
+SELECT id, title, description, host_id, start_time, end_time, location, visibility,
+       created_at, updated_at, deleted_at
+FROM events_legacy;
+
+INSERT INTO attendance (event_id, user_id, event_start_time, status, responded_at, deleted_at)
+SELECT a.event_id, a.user_id, e.start_time, a.status, a.responded_at, a.deleted_at
+FROM attendance_legacy a
+JOIN events_legacy e ON e.id = a.event_id;
+
+DROP TABLE attendance_legacy;
+DROP TABLE events_legacy;
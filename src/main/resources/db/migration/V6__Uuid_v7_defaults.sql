@@ -0,0 +1,22 @@
+-- V6__Uuid_v7_defaults.sql
+-- Time-ordered RFC 9562 version 7 UUIDs: 48-bit Unix millisecond timestamp, 12 bits of
+-- sub-millisecond precision, then random bits, so new keys append to the right edge of
+-- the primary key indexes. Attendance keys are (event_id, user_id) and inherit the
+-- ordering from their parents.
+
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+DECLARE
+    v_micros BIGINT := floor(extract(epoch FROM clock_timestamp()) * 1000000)::BIGINT;
+    v_fraction INTEGER := ((v_micros % 1000) * 4096 / 1000)::INTEGER;
+    v_bytes BYTEA := uuid_send(gen_random_uuid());
+BEGIN
+    v_bytes := overlay(v_bytes PLACING substring(int8send(v_micros / 1000) FROM 3) FROM 1 FOR 6);
+    -- gen_random_uuid() already sets the RFC variant bits
+    v_bytes := set_byte(v_bytes, 6, 112 | (v_fraction >> 8));
+    v_bytes := set_byte(v_bytes, 7, v_fraction & 255);
+    RETURN encode(v_bytes, 'hex')::UUID;
+END;
+$$ LANGUAGE plpgsql VOLATILE;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE events ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,5 @@
+-- V7__Add_events_updated_at_index.sql
+-- Supports the event catalog snapshot's incremental refresh (updated_at >= watermark).
+-- Soft-deleted rows are included on purpose so that deletions reach the snapshot.
+
+CREATE INDEX idx_events_updated_at ON events(updated_at);
@@ -0,0 +1,7 @@
+-- V8__Add_events_period_gist_index.sql
+-- Indexes each event's [start_time, end_time) period for "within" (<@) and "overlaps" (&&)
+-- date range queries. An expression index is used rather than a stored tsrange column so
+-- the partition maintenance functions, which copy rows with SELECT *, stay unchanged.
+
+CREATE INDEX idx_events_period ON events USING gist (tsrange(start_time, end_time, '[)'))
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,18 @@
+-- V9__Add_events_coordinates.sql
+-- Optional event coordinates for the nearby search. PostGIS is not assumed to be installed, so
+-- points are indexed through a geohash column: each covering cell of a search circle becomes a
+-- prefix range scan on a plain B-tree. The "C" collation keeps geohash order byte-wise.
+
+ALTER TABLE events
+    ADD COLUMN latitude DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD COLUMN geohash VARCHAR(12) COLLATE "C";
+
+ALTER TABLE events
+    ADD CONSTRAINT chk_event_coordinates CHECK (
+        (latitude IS NULL) = (longitude IS NULL)
+        AND latitude BETWEEN -90 AND 90
+        AND longitude BETWEEN -180 AND 180);
+
+CREATE INDEX idx_events_geohash ON events (geohash)
+    WHERE geohash IS NOT NULL AND deleted_at IS NULL;
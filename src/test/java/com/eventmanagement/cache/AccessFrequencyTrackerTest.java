@@ -0,0 +1,71 @@
+// src/test/java/com/eventmanagement/cache/AccessFrequencyTrackerTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.CacheWarmupConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AccessFrequencyTrackerTest {
+
+    private final AccessFrequencyTracker tracker = newTracker(2);
+
+    @Test
+    void topEvents_ShouldRankByRequestCount() {
+        UUID popular = UUID.randomUUID();
+        UUID steady = UUID.randomUUID();
+        UUID rare = UUID.randomUUID();
+        record(rare, 1);
+        record(steady, 5);
+        record(popular, 20);
+
+        assertThat(tracker.topEvents(2)).containsExactly(popular, steady);
+        assertThat(tracker.topEvents(10)).containsExactly(popular, steady, rare);
+    }
+
+    @Test
+    void candidates_ShouldMakeRoomForEventsThatOvertakeTheWeakest() {
+        // Two top events keep eight candidates
+        List<UUID> early = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            UUID id = UUID.randomUUID();
+            early.add(id);
+            record(id, 2);
+        }
+        UUID trending = UUID.randomUUID();
+        record(trending, 30);
+
+        assertThat(tracker.topEvents(1)).containsExactly(trending);
+        assertThat(tracker.topEvents(100)).hasSize(8).contains(trending);
+    }
+
+    @Test
+    void decay_ShouldLetRecentActivityOvertakeOld() {
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        record(old, 12);
+        tracker.decay();
+        tracker.decay();
+        record(recent, 4);
+
+        assertThat(tracker.topEvents(1)).containsExactly(recent);
+    }
+
+    private void record(UUID id, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(id);
+        }
+    }
+
+    private static AccessFrequencyTracker newTracker(int topEvents) {
+        CacheWarmupConfig config = new CacheWarmupConfig();
+        config.setTopEvents(topEvents);
+        return new AccessFrequencyTracker(config, mock(JdbcTemplate.class));
+    }
+}
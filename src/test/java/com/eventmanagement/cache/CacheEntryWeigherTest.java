@@ -0,0 +1,72 @@
+// src/test/java/com/eventmanagement/cache/CacheEntryWeigherTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.Role;
+import com.eventmanagement.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheEntryWeigherTest {
+
+    private final CacheEntryWeigher weigher = new CacheEntryWeigher();
+
+    @Test
+    void weigh_ShouldGrowWithAttendees() {
+        int small = weigher.weigh("id_user", eventWithAttendees(0));
+        int large = weigher.weigh("id_user", eventWithAttendees(10_000));
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "Ann", "ann@example.com", "$2a$10$hash",
+                List.of(new SimpleGrantedAuthority("ROLE_" + Role.USER.name())));
+
+        assertThat(small).isBetween(500, 5_000);
+        // Roughly a couple of hundred bytes per attendee
+        assertThat(large).isBetween(1_000_000, 5_000_000);
+        assertThat(weigher.weigh(UUID.randomUUID().toString(), principal)).isLessThan(small);
+    }
+
+    @Test
+    void maximumWeight_ShouldBoundCacheByEstimatedBytes() {
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(2_000_000)
+                .weigher(weigher)
+                .executor(Runnable::run)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("event-" + i, eventWithAttendees(5_000));
+        }
+        cache.cleanUp();
+
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isLessThanOrEqualTo(2_000_000);
+        assertThat(cache.estimatedSize()).isLessThan(10);
+    }
+
+    private static EventDetailResponse eventWithAttendees(int count) {
+        EventDetailResponse detail = new EventDetailResponse();
+        detail.setId(UUID.randomUUID());
+        detail.setTitle("Conference");
+        detail.setDescription("A long description of the event");
+        detail.setStartTime(LocalDateTime.now());
+        List<EventDetailResponse.AttendeeResponse> attendees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EventDetailResponse.AttendeeResponse attendee = new EventDetailResponse.AttendeeResponse();
+            attendee.setUserId(UUID.randomUUID());
+            attendee.setUserName("Attendee " + i);
+            attendee.setStatus(AttendanceStatus.GOING);
+            attendee.setRespondedAt(LocalDateTime.now());
+            attendees.add(attendee);
+        }
+        detail.setAttendees(attendees);
+        return detail;
+    }
+}
@@ -0,0 +1,121 @@
+// src/test/java/com/eventmanagement/cache/CacheInvalidationBusTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.CacheInvalidationConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class CacheInvalidationBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Collection<CacheInvalidation>> received = new ArrayList<>();
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(new CacheInvalidationConfig(), objectMapper, "node-a");
+        bus.addListener(new CacheInvalidationListener() {
+            @Override
+            public void invalidate(Collection<CacheInvalidation> invalidations) {
+                received.add(invalidations);
+            }
+
+            @Override
+            public void invalidateAll() {
+            }
+        });
+    }
+
+    @Test
+    void receive_ShouldIgnoreOwnMessagesAndDedupeAcrossPayloads() {
+        CacheInvalidationBus other = new CacheInvalidationBus(new CacheInvalidationConfig(), objectMapper, "node-b");
+        List<String> payloads = new ArrayList<>();
+        payloads.addAll(other.encode(List.of(new CacheInvalidation("events", "1_u"), new CacheInvalidation("events", "2_u"))));
+        payloads.addAll(other.encode(List.of(new CacheInvalidation("events", "1_u"), CacheInvalidation.all("upcomingEvents"))));
+        payloads.addAll(bus.encode(List.of(new CacheInvalidation("events", "3_u"))));
+        payloads.add("not json");
+
+        bus.receive(payloads);
+
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0)).containsExactly(
+                new CacheInvalidation("events", "1_u"),
+                new CacheInvalidation("events", "2_u"),
+                CacheInvalidation.all("upcomingEvents"));
+    }
+
+    @Test
+    void dedupe_ShouldDropKeysCoveredByWholeCacheEntry() {
+        Collection<CacheInvalidation> deduped = CacheInvalidationBus.dedupe(List.of(
+                new CacheInvalidation("events", "1_u"),
+                CacheInvalidation.all("events"),
+                new CacheInvalidation("upcomingEvents", "x")));
+
+        assertThat(deduped).containsExactly(CacheInvalidation.all("events"), new CacheInvalidation("upcomingEvents", "x"));
+    }
+
+    @Test
+    void encode_ShouldSplitPayloadsUnderNotifyLimit() {
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            invalidations.add(new CacheInvalidation("events", "key-" + i + "-" + "x".repeat(40)));
+        }
+        invalidations.add(new CacheInvalidation("upcomingEvents", "y".repeat(10_000)));
+
+        List<String> payloads = bus.encode(invalidations);
+
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(payloads).allSatisfy(payload ->
+                assertThat(payload.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(CacheInvalidationBus.MAX_PAYLOAD_BYTES));
+        CacheInvalidationBus other = new CacheInvalidationBus(new CacheInvalidationConfig(), objectMapper, "node-b");
+        other.addListener(new CacheInvalidationListener() {
+            @Override
+            public void invalidate(Collection<CacheInvalidation> batch) {
+                received.add(batch);
+            }
+
+            @Override
+            public void invalidateAll() {
+            }
+        });
+        other.receive(payloads);
+        assertThat(received.get(0)).hasSize(501).contains(CacheInvalidation.all("upcomingEvents"));
+    }
+
+    @Test
+    void tieredCacheManager_ShouldPublishLocalEvictionsAndApplyRemoteOnesQuietly() {
+        CacheInvalidationBus mockBus = mock(CacheInvalidationBus.class);
+        TieredCaffeineCacheManager cacheManager = new TieredCaffeineCacheManager(mockBus, null, null, null);
+        cacheManager.setCacheNames(List.of("events"));
+        Cache cache = cacheManager.getCache("events");
+        cache.put("1_u", "one");
+        cache.put("2_u", "two");
+        cache.put(42, "answer");
+
+        cache.evict("1_u");
+        cache.evict(42);
+        verify(mockBus).publish(new CacheInvalidation("events", "1_u"));
+        verify(mockBus).publish(CacheInvalidation.all("events"));
+
+        cacheManager.invalidate(List.of(new CacheInvalidation("events", "2_u"), new CacheInvalidation("missing", "x")));
+        assertThat(cache.get("2_u")).isNull();
+
+        cache.put("3_u", "three");
+        cacheManager.invalidateAll();
+        assertThat(cache.get("3_u")).isNull();
+        verify(mockBus).addListener(cacheManager);
+        verifyNoMoreInteractions(mockBus);
+    }
+}
@@ -0,0 +1,105 @@
+// src/test/java/com/eventmanagement/cache/CacheWarmupRunnerTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.catalog.EventCatalogService;
+import com.eventmanagement.config.CacheWarmupConfig;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.exception.UnauthorizedException;
+import com.eventmanagement.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupRunnerTest {
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private AccessFrequencyTracker accessFrequencyTracker;
+
+    @Spy
+    private CacheWarmupConfig cacheWarmupConfig = new CacheWarmupConfig();
+
+    @InjectMocks
+    private CacheWarmupRunner runner;
+
+    @Test
+    void warmUp_ShouldLoadUpcomingPagesAndTopEventsWithTheControllersKeys() {
+        UUID popular = UUID.randomUUID();
+        UUID hidden = UUID.randomUUID();
+        when(eventService.getUpcomingEvents(any())).thenReturn(page(false)).thenReturn(page(true));
+        when(accessFrequencyTracker.topEvents(anyInt())).thenReturn(List.of(hidden, popular));
+        when(eventService.getEventDetails(hidden, null)).thenThrow(new UnauthorizedException("private"));
+        AtomicInteger loaded = new AtomicInteger();
+
+        runner.warmUp(new AtomicBoolean(), loaded);
+
+        // The second page is the last, so the third configured page is not requested
+        verify(eventService).getUpcomingEvents(PageRequest.of(0, 10, Sort.by("startTime").ascending()));
+        verify(eventService).getUpcomingEvents(PageRequest.of(1, 10, Sort.by("startTime").ascending()));
+        verify(eventService, times(2)).getUpcomingEvents(any(Pageable.class));
+        verify(eventService).getEventDetails(popular, null);
+        assertThat(loaded).hasValue(3);
+    }
+
+    @Test
+    void warmUp_WithCatalog_ShouldOnlyLoadTopEvents() {
+        UUID popular = UUID.randomUUID();
+        ReflectionTestUtils.setField(runner, "eventCatalogService", mock(EventCatalogService.class));
+        when(accessFrequencyTracker.topEvents(anyInt())).thenReturn(List.of(popular));
+        AtomicInteger loaded = new AtomicInteger();
+
+        runner.warmUp(new AtomicBoolean(), loaded);
+
+        verify(eventService, never()).getUpcomingEvents(any());
+        verify(eventService).getEventDetails(popular, null);
+        assertThat(loaded).hasValue(1);
+    }
+
+    @Test
+    void run_ShouldReturnOnceTimeoutExpires() throws Exception {
+        cacheWarmupConfig.setTimeout(Duration.ofMillis(200));
+        when(eventService.getUpcomingEvents(any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return page(true);
+        });
+
+        long started = System.nanoTime();
+        runner.run(null);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(3));
+        verify(accessFrequencyTracker).load();
+        verify(accessFrequencyTracker, never()).topEvents(anyInt());
+    }
+
+    private static PagedResponse<EventResponse> page(boolean last) {
+        PagedResponse<EventResponse> page = new PagedResponse<>(List.of(), 0, 10, 0, 0);
+        page.setLast(last);
+        return page;
+    }
+}
@@ -0,0 +1,85 @@
+// src/test/java/com/eventmanagement/cache/EventSearchKeyGeneratorTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.enums.DateRangeMode;
+import com.eventmanagement.enums.Visibility;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventSearchKeyGeneratorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 5, 1, 18, 0);
+    private static final UUID HOST = UUID.randomUUID();
+
+    private final EventSearchKeyGenerator generator = new EventSearchKeyGenerator();
+    private final Method method = Object.class.getMethods()[0];
+
+    @Test
+    void equivalentSearches_ShouldShareOneKey() {
+        Object key = key("Jazz", null, START, null, PageRequest.of(0, 20, Sort.by("startTime")));
+
+        assertThat(key(" jAZZ  ", "", START.plusSeconds(42), null, PageRequest.of(0, 20, Sort.by("startTime"))))
+                .isEqualTo(key);
+        assertThat(key("jazz", "   ", START.withNano(5), null,
+                PageRequest.of(0, 20, Sort.by("startTime").and(Sort.by(Sort.Direction.DESC, "startTime")))))
+                .isEqualTo(key);
+        assertThat(key).asString().hasSize(22);
+    }
+
+    @Test
+    void differentSearches_ShouldGetDifferentKeys() {
+        Object key = key("jazz", null, START, null, PageRequest.of(0, 20));
+
+        assertThat(key("jazz", null, START, null, PageRequest.of(1, 20))).isNotEqualTo(key);
+        assertThat(key("jazz", null, START, null, PageRequest.of(0, 50))).isNotEqualTo(key);
+        assertThat(key("jazz", "berlin", START, null, PageRequest.of(0, 20))).isNotEqualTo(key);
+        assertThat(key("jazz", null, START.plusMinutes(1), null, PageRequest.of(0, 20))).isNotEqualTo(key);
+        assertThat(key("jazz", null, null, START, PageRequest.of(0, 20))).isNotEqualTo(key);
+        assertThat(key("jazz", null, START, null, PageRequest.of(0, 20, Sort.by("title")))).isNotEqualTo(key);
+        assertThat(key("jazz", null, START, null,
+                PageRequest.of(0, 20, Sort.by(Sort.Order.asc("title").ignoreCase()))))
+                .isNotEqualTo(key("jazz", null, START, null, PageRequest.of(0, 20, Sort.by("title"))));
+        assertThat(generator.generate(null, method, "jazz", null, START, null, DateRangeMode.OVERLAPS,
+                Visibility.PUBLIC, HOST, PageRequest.of(0, 20))).isNotEqualTo(key);
+    }
+
+    @Test
+    void canonicalForm_ShouldWidenDatesToWholeMinutes() {
+        String canonical = EventSearchKeyGenerator.canonicalForm("Jazz", null, START.plusSeconds(42),
+                START.plusSeconds(10), null, null, null, Pageable.unpaged());
+
+        assertThat(canonical).isEqualTo("t=jazz|l=null|s=2030-05-01T18:00|e=2030-05-01T18:00:59.999999"
+                + "|m=null|v=null|h=null|p=all|o=");
+    }
+
+    @Test
+    void distinctKeys_ShouldCountEachSearchOnce() {
+        for (int round = 0; round < 3; round++) {
+            for (int page = 0; page < 100; page++) {
+                key("jazz", null, START, null, PageRequest.of(page, 20));
+            }
+        }
+
+        assertThat(generator.distinctKeys()).isBetween(95L, 105L);
+    }
+
+    @Test
+    void otherSignatures_ShouldBeRejected() {
+        assertThatThrownBy(() -> generator.generate(null, method, "jazz"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Object key(String title, String location, LocalDateTime startDate, LocalDateTime endDate,
+                       Pageable pageable) {
+        return generator.generate(null, method, title, location, startDate, endDate, null, null, null, pageable);
+    }
+}
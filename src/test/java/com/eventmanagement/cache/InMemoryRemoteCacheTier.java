@@ -0,0 +1,38 @@
+// src/test/java/com/eventmanagement/cache/InMemoryRemoteCacheTier.java
+package com.eventmanagement.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the shared tier; one instance shared by several cache managers behaves
+ * like several nodes talking to the same server.
+ */
+class InMemoryRemoteCacheTier implements RemoteCacheTier {
+
+    private final Map<String, Map<String, byte[]>> caches = new ConcurrentHashMap<>();
+    final AtomicInteger reads = new AtomicInteger();
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        reads.incrementAndGet();
+        return caches.getOrDefault(cacheName, Map.of()).get(key);
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>()).put(key, value);
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        caches.getOrDefault(cacheName, Map.of()).remove(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+}
@@ -0,0 +1,65 @@
+// src/test/java/com/eventmanagement/cache/RedisRemoteCacheTierTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.RemoteCacheConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRemoteCacheTierTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisRemoteCacheTier tier;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        tier = new RedisRemoteCacheTier(connectionFactory, new RemoteCacheConfig());
+        tier.init();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void putGetEvictAndClear() {
+        tier.put("events", "a", new byte[] {1, 2, 3}, Duration.ofMinutes(1));
+        tier.put("events", "b", new byte[] {4}, Duration.ofMinutes(1));
+
+        assertThat(tier.get("events", "a")).containsExactly(1, 2, 3);
+
+        tier.evict("events", "a");
+        assertThat(tier.get("events", "a")).isNull();
+        assertThat(tier.get("events", "b")).containsExactly(4);
+
+        tier.clear("events");
+        assertThat(tier.get("events", "b")).isNull();
+    }
+
+    @Test
+    void expiredEntries_ShouldReadAsMissing() throws InterruptedException {
+        tier.put("upcomingEvents", "short", new byte[] {1}, Duration.ofMillis(20));
+        tier.put("upcomingEvents", "long", new byte[] {2}, Duration.ofMinutes(1));
+        Thread.sleep(50);
+
+        assertThat(tier.get("upcomingEvents", "short")).isNull();
+        assertThat(tier.get("upcomingEvents", "long")).containsExactly(2);
+    }
+}
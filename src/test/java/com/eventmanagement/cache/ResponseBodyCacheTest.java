@@ -0,0 +1,118 @@
+// src/test/java/com/eventmanagement/cache/ResponseBodyCacheTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.ResponseCacheConfig;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ResponseBodyCache cache = new ResponseBodyCache(objectMapper, new ResponseCacheConfig());
+
+    @Test
+    void sameSource_ShouldReuseStoredBytes() throws Exception {
+        PagedResponse<EventResponse> page = page("Meetup");
+
+        ResponseEntity<?> first = cache.respond(new MockHttpServletRequest(), ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT),
+                "upcoming:0:10", page, true);
+        ResponseEntity<?> second = cache.respond(new MockHttpServletRequest(), ResponseEntity.ok(), "upcoming:0:10", page, true);
+
+        assertThat(second.getBody()).isSameAs(first.getBody()).isEqualTo(objectMapper.writeValueAsBytes(page));
+        assertThat(first.getHeaders().getETag()).startsWith("W/\"");
+        assertThat(first.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        assertThat(first.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    @Test
+    void respond_ShouldStopShallowETagFilterFromBufferingTheBytes() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        cache.respond(request, ResponseEntity.ok(), "upcoming:0:10", page("Meetup"), true);
+
+        // The attribute ShallowEtagHeaderFilter.disableContentCaching sets
+        assertThat(request.getAttribute(ShallowEtagHeaderFilter.class.getName() + ".STREAMING")).isEqualTo(true);
+    }
+
+    @Test
+    void newSource_ShouldBeRenderedAgain() throws Exception {
+        PagedResponse<EventResponse> page = page("Meetup");
+        cache.respond(new MockHttpServletRequest(), ResponseEntity.ok(), "upcoming:0:10", page, true);
+
+        // An equal-looking object from a reload may hold different data, so only identity counts
+        PagedResponse<EventResponse> reloaded = page("Renamed");
+        ResponseEntity<?> response = cache.respond(new MockHttpServletRequest(), ResponseEntity.ok(), "upcoming:0:10",
+                reloaded, false);
+
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(reloaded));
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    void gzipAccepted_ShouldSendCompressedBytes() throws Exception {
+        PagedResponse<EventResponse> page = page("Meetup");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8");
+
+        ResponseEntity<?> response = cache.respond(request, ResponseEntity.ok(), "upcoming:0:10", page, true);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip((byte[]) response.getBody())).isEqualTo(objectMapper.writeValueAsBytes(page));
+    }
+
+    @Test
+    void otherRepresentation_ShouldBeLeftToContentNegotiation() {
+        PagedResponse<EventResponse> page = page("Meetup");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.5");
+
+        ResponseEntity<?> response = cache.respond(request, ResponseEntity.ok(), "upcoming:0:10", page, true);
+
+        assertThat(response.getBody()).isSameAs(page);
+        assertThat(ResponseBodyCache.prefersJson("*/*")).isTrue();
+        assertThat(ResponseBodyCache.prefersJson("application/json, text/plain")).isTrue();
+        assertThat(ResponseBodyCache.prefersJson("application/*;q=0.9, application/x-jackson-smile")).isFalse();
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourZeroQuality() {
+        assertThat(ResponseBodyCache.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip; q=0.000, identity")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("deflate, br")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip(null)).isFalse();
+    }
+
+    private static PagedResponse<EventResponse> page(String title) {
+        EventResponse event = new EventResponse();
+        event.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        event.setTitle(title);
+        event.setStartTime(LocalDateTime.of(2030, 5, 1, 18, 0));
+        return new PagedResponse<>(List.of(event), 0, 10, 1, 1);
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+// src/test/java/com/eventmanagement/cache/TieredCaffeineCacheManagerTest.java
+package com.eventmanagement.cache;
+
+import com.eventmanagement.config.CacheConfig;
+import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.Visibility;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredCaffeineCacheManagerTest {
+
+    private final CacheValueCodec codec = new CacheConfig().cacheValueCodec();
+    private final InMemoryRemoteCacheTier remoteTier = new InMemoryRemoteCacheTier();
+
+    @Test
+    void codec_ShouldRoundTripRegisteredTypesAndSkipOthers() {
+        EventDetailResponse detail = new EventDetailResponse();
+        detail.setId(UUID.randomUUID());
+        detail.setTitle("Launch");
+        detail.setStartTime(LocalDateTime.of(2030, 5, 1, 18, 0));
+        detail.setVisibility(Visibility.PUBLIC);
+        detail.setAttendanceBreakdown(Map.of(AttendanceStatus.GOING, 3L));
+        PagedResponse<EventResponse> page = new PagedResponse<>(List.of(eventResponse("Meetup")), 0, 20, 1, 1);
+
+        EventDetailResponse decodedDetail = (EventDetailResponse) codec.decode(codec.encode(detail));
+        @SuppressWarnings("unchecked")
+        PagedResponse<EventResponse> decodedPage = (PagedResponse<EventResponse>) codec.decode(codec.encode(page));
+
+        assertThat(decodedDetail.getId()).isEqualTo(detail.getId());
+        assertThat(decodedDetail.getStartTime()).isEqualTo(detail.getStartTime());
+        assertThat(decodedDetail.getAttendanceBreakdown()).containsEntry(AttendanceStatus.GOING, 3L);
+        assertThat(decodedPage.getContent()).singleElement()
+                .satisfies(event -> assertThat(event.getTitle()).isEqualTo("Meetup"));
+        assertThat(decodedPage.getTotalElements()).isEqualTo(1);
+        assertThat(codec.decode(codec.encode(null))).isNull();
+        assertThat(codec.encode("plain string")).isNull();
+        assertThat(codec.encode(new PagedResponse<>(List.of("not an event"), 0, 1, 1, 1))).isNull();
+    }
+
+    @Test
+    void secondNode_ShouldBeServedFromRemoteTierWithoutLoading() {
+        Cache firstNode = newManager().getCache("events");
+        Cache secondNode = newManager().getCache("events");
+        SimpleKey key = new SimpleKey("title", 0, 20);
+        AtomicInteger loads = new AtomicInteger();
+
+        PagedResponse<?> first = firstNode.get(key, () -> {
+            loads.incrementAndGet();
+            return new PagedResponse<>(List.of(eventResponse("Meetup")), 0, 20, 1, 1);
+        });
+        PagedResponse<?> second = secondNode.get(key, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getTotalElements()).isEqualTo(first.getTotalElements());
+        // Now held locally, so the remote tier is not read again
+        int reads = remoteTier.reads.get();
+        assertThat(secondNode.get(key)).isNotNull();
+        assertThat(remoteTier.reads).hasValue(reads);
+    }
+
+    @Test
+    void evictAndClear_ShouldWriteThroughToRemoteTier() {
+        Cache firstNode = newManager().getCache("events");
+        Cache secondNode = newManager().getCache("events");
+        EventDetailResponse detail = new EventDetailResponse();
+        detail.setTitle("Launch");
+
+        firstNode.put("id_user", detail);
+        firstNode.put("other_user", detail);
+        assertThat(secondNode.get("id_user")).isNotNull();
+
+        firstNode.evict("other_user");
+        assertThat(newManager().getCache("events").get("other_user")).isNull();
+
+        firstNode.clear();
+        assertThat(newManager().getCache("events").get("id_user")).isNull();
+    }
+
+    @Test
+    void unregisteredValues_ShouldStayLocal() {
+        Cache firstNode = newManager().getCache("events");
+        firstNode.put("key", "local only");
+
+        assertThat(firstNode.get("key", String.class)).isEqualTo("local only");
+        assertThat(newManager().getCache("events").get("key")).isNull();
+    }
+
+    @Test
+    void concurrentMisses_ShouldShareOneLoad() throws Exception {
+        Cache cache = newLocalManager().getCache("events");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get("hot", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "value";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void staleWhileRevalidate_ShouldServePreviousValueWhileOneRefreshRuns() {
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        TieredCaffeineCacheManager manager = new TieredCaffeineCacheManager(null, null, codec, null);
+        manager.setStaleWhileRevalidate(Duration.ofMinutes(1), List.of("events"));
+        manager.setRefreshExecutor(refreshes::add);
+        manager.setCacheNames(List.of("events"));
+        Cache cache = manager.getCache("events");
+        AtomicInteger loads = new AtomicInteger();
+        cache.put("hot", "old");
+
+        cache.clear();
+        assertThat(cache.get("hot", () -> "new-" + loads.incrementAndGet())).isEqualTo("old");
+        assertThat(cache.get("hot", () -> "new-" + loads.incrementAndGet())).isEqualTo("old");
+
+        assertThat(refreshes).hasSize(1);
+        assertThat(loads).hasValue(0);
+        refreshes.poll().run();
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("hot", () -> "new-" + loads.incrementAndGet())).isEqualTo("new-1");
+    }
+
+    @Test
+    void staleWhileRevalidate_ShouldLoadInLineOnceStaleCopyExpires() {
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        TieredCaffeineCacheManager manager = new TieredCaffeineCacheManager(null, null, codec, null);
+        manager.setStaleWhileRevalidate(Duration.ZERO, List.of("events"));
+        manager.setRefreshExecutor(refreshes::add);
+        manager.setCacheNames(List.of("events"));
+        Cache cache = manager.getCache("events");
+        cache.put("hot", "old");
+
+        cache.evict("hot");
+
+        assertThat(cache.get("hot", () -> "new")).isEqualTo("new");
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void refreshAfterWrite_ShouldReturnAgedEntryAndReloadItOnce() {
+        AtomicLong ticker = new AtomicLong();
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        TieredCaffeineCacheManager manager = new TieredCaffeineCacheManager(null, null, codec, null);
+        manager.setRefreshExecutor(refreshes::add);
+        manager.registerCustomCache("upcomingEvents", Caffeine.newBuilder()
+                .ticker(ticker::get)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .build(), Duration.ofMinutes(1));
+        Cache cache = manager.getCache("upcomingEvents");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("page", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get("page", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(refreshes).isEmpty();
+
+        ticker.addAndGet(Duration.ofSeconds(61).toNanos());
+        assertThat(cache.get("page", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get("page", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.poll().run();
+        assertThat(cache.get("page", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(refreshes).isEmpty();
+    }
+
+    private TieredCaffeineCacheManager newLocalManager() {
+        TieredCaffeineCacheManager manager = new TieredCaffeineCacheManager(null, null, codec, null);
+        manager.setCacheNames(List.of("events"));
+        return manager;
+    }
+
+    private TieredCaffeineCacheManager newManager() {
+        TieredCaffeineCacheManager manager = new TieredCaffeineCacheManager(null, remoteTier, codec, Duration.ofMinutes(10));
+        manager.setCacheNames(List.of("events"));
+        return manager;
+    }
+
+    private static EventResponse eventResponse(String title) {
+        EventResponse event = new EventResponse();
+        event.setId(UUID.randomUUID());
+        event.setTitle(title);
+        event.setStartTime(LocalDateTime.of(2030, 5, 1, 18, 0));
+        return event;
+    }
+}
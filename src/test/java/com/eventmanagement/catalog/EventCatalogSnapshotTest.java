@@ -0,0 +1,173 @@
+// src/test/java/com/eventmanagement/catalog/EventCatalogSnapshotTest.java
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.DateRangeMode;
+import com.eventmanagement.enums.Visibility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCatalogSnapshotTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 6, 1, 10, 0, 0, 123_456_000);
+    private static final UUID HOST_A = UUID.fromString("00000000-0000-0000-0000-0000000000a1");
+    private static final UUID HOST_B = UUID.fromString("00000000-0000-0000-0000-0000000000b1");
+
+    private final List<EventCatalogSnapshot.Row> rows = new ArrayList<>();
+    private EventCatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        for (int day = 0; day < 10; day++) {
+            rows.add(row(day, "Meetup " + day, day % 2 == 0 ? "Colombo" : "Kandy", day < 5 ? HOST_A : HOST_B));
+        }
+        snapshot = EventCatalogSnapshot.of(rows);
+    }
+
+    @Test
+    void whenNoFilters_thenAllEventsReturnedInStartOrder() {
+        PagedResponse<EventResponse> page = snapshot.find(query(null, null, null, null, null, null, false), 0, 4);
+
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(EventResponse::getTitle)
+                .containsExactly("Meetup 0", "Meetup 1", "Meetup 2", "Meetup 3");
+    }
+
+    @Test
+    void whenDescending_thenLastPageHoldsEarliestEvents() {
+        PagedResponse<EventResponse> page = snapshot.find(query(null, null, null, null, null, null, true), 2, 4);
+
+        assertThat(page.getContent()).extracting(EventResponse::getTitle).containsExactly("Meetup 1", "Meetup 0");
+    }
+
+    @Test
+    void whenDateRange_thenStartAndEndBoundsApplied() {
+        PagedResponse<EventResponse> page = snapshot.find(query(null, null,
+                BASE.plusDays(2), BASE.plusDays(5).plusHours(2), null, null, false), 0, 10);
+
+        assertThat(page.getContent()).extracting(EventResponse::getTitle)
+                .containsExactly("Meetup 2", "Meetup 3", "Meetup 4", "Meetup 5");
+    }
+
+    @Test
+    void whenOverlapsMode_thenEventsRunningIntoTheWindowIncluded() {
+        EventCatalogSnapshot withFestival = snapshot.withChanges(List.of(new EventCatalogSnapshot.Row(new UUID(0, 99),
+                "Festival", "Description", HOST_A, "Host " + HOST_A, BASE.minusDays(3), BASE.plusDays(4), "Galle", null, null,
+                Visibility.PUBLIC, false, BASE.minusDays(1), null)));
+
+        PagedResponse<EventResponse> page = withFestival.find(new EventCatalogSnapshot.CatalogQuery(null, null,
+                BASE.plusDays(2).plusHours(1), BASE.plusDays(3), DateRangeMode.OVERLAPS, null, null, false), 0, 10);
+
+        // Meetup 2 ends after the window opens and Meetup 3 starts exactly at its inclusive end
+        assertThat(page.getContent()).extracting(EventResponse::getTitle)
+                .containsExactly("Festival", "Meetup 2", "Meetup 3");
+        assertThat(withFestival.find(new EventCatalogSnapshot.CatalogQuery(null, null,
+                BASE.plusDays(2).plusHours(1), BASE.plusDays(3), null, null, null, false), 0, 10).getContent())
+                .isEmpty();
+    }
+
+    @Test
+    void whenOverlapsModeWithFilters_thenFiltersAppliedInDescendingOrder() {
+        PagedResponse<EventResponse> page = snapshot.find(new EventCatalogSnapshot.CatalogQuery(null, "kandy",
+                BASE.plusDays(1).plusHours(1), null, DateRangeMode.OVERLAPS, null, null, true), 0, 2);
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(EventResponse::getTitle).containsExactly("Meetup 9", "Meetup 7");
+    }
+
+    @Test
+    void whenAfter_thenStartTimeBoundIsExclusive() {
+        PagedResponse<EventResponse> page = snapshot.find(query(null, null, null, null, null, BASE.plusDays(7), false), 0, 10);
+
+        assertThat(page.getContent()).extracting(EventResponse::getTitle).containsExactly("Meetup 8", "Meetup 9");
+    }
+
+    @Test
+    void whenLocationTitleAndHostFilters_thenAllMustMatch() {
+        PagedResponse<EventResponse> page = snapshot.find(query("meetup", "colo", null, null, HOST_B, null, false), 0, 10);
+
+        assertThat(page.getContent()).extracting(EventResponse::getTitle).containsExactly("Meetup 6", "Meetup 8");
+        assertThat(page.getContent()).allSatisfy(response -> {
+            assertThat(response.getHostId()).isEqualTo(HOST_B);
+            assertThat(response.getHostName()).isEqualTo("Host " + HOST_B);
+            assertThat(response.getVisibility()).isEqualTo(Visibility.PUBLIC);
+        });
+    }
+
+    @Test
+    void whenUnknownHost_thenEmptyPage() {
+        PagedResponse<EventResponse> page = snapshot.find(query(null, null, null, null, UUID.randomUUID(), null, false), 0, 10);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    void whenMapped_thenTimestampsRoundTripAtMicrosecondPrecision() {
+        EventResponse first = snapshot.find(query(null, null, null, null, null, null, false), 0, 1).getContent().get(0);
+
+        assertThat(first.getStartTime()).isEqualTo(BASE);
+        assertThat(first.getEndTime()).isEqualTo(BASE.plusHours(2));
+        assertThat(first.getUpdatedAt()).isNull();
+        assertThat(first.getLatitude()).isEqualTo(6.9271);
+        assertThat(first.getLongitude()).isEqualTo(79.8612);
+    }
+
+    @Test
+    void whenChangesApplied_thenUpdatedRemovedAndAddedRowsReflected() {
+        EventCatalogSnapshot.Row moved = rows.get(0);
+        EventCatalogSnapshot.Row hidden = rows.get(1);
+        EventCatalogSnapshot.Row deleted = rows.get(2);
+        EventCatalogSnapshot.Row added = row(20, "New event", "Galle", HOST_A);
+
+        EventCatalogSnapshot updated = snapshot.withChanges(List.of(
+                copy(moved, moved.startTime().plusDays(30), Visibility.PUBLIC, false),
+                copy(hidden, hidden.startTime(), Visibility.PRIVATE, false),
+                copy(deleted, deleted.startTime(), Visibility.PUBLIC, true),
+                added));
+
+        PagedResponse<EventResponse> page = updated.find(query(null, null, null, null, null, null, false), 0, 20);
+        assertThat(page.getContent()).extracting(EventResponse::getTitle)
+                .containsExactly("Meetup 3", "Meetup 4", "Meetup 5", "Meetup 6", "Meetup 7", "Meetup 8", "Meetup 9",
+                        "New event", "Meetup 0");
+        assertThat(snapshot.size()).isEqualTo(10);
+    }
+
+    @Test
+    void whenChangesMatchSnapshot_thenSameInstanceReturned() {
+        EventCatalogSnapshot.Row unchanged = rows.get(3);
+        EventCatalogSnapshot.Row privateEvent = copy(row(30, "Private", "Galle", HOST_A),
+                BASE.plusDays(30), Visibility.PRIVATE, false);
+
+        assertThat(snapshot.withChanges(List.of(unchanged, privateEvent))).isSameAs(snapshot);
+    }
+
+    private static EventCatalogSnapshot.CatalogQuery query(String title, String location, LocalDateTime startDate,
+                                                           LocalDateTime endDate, UUID hostId, LocalDateTime after,
+                                                           boolean descending) {
+        return new EventCatalogSnapshot.CatalogQuery(title, location, startDate, endDate, null, hostId, after,
+                descending);
+    }
+
+    private static EventCatalogSnapshot.Row row(int day, String title, String location, UUID hostId) {
+        LocalDateTime start = BASE.plusDays(day);
+        return new EventCatalogSnapshot.Row(new UUID(0, day + 1), title, "Description", hostId, "Host " + hostId,
+                start, start.plusHours(2), location, 6.9271, 79.8612, Visibility.PUBLIC, false, BASE.minusDays(1), null);
+    }
+
+    private static EventCatalogSnapshot.Row copy(EventCatalogSnapshot.Row row, LocalDateTime start,
+                                                 Visibility visibility, boolean deleted) {
+        return new EventCatalogSnapshot.Row(row.id(), row.title(), row.description(), row.hostId(), row.hostName(),
+                start, start.plusHours(2), row.location(), row.latitude(), row.longitude(), visibility, deleted,
+                row.createdAt(), LocalDateTime.now());
+    }
+}
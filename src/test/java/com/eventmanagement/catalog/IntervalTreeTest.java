@@ -0,0 +1,61 @@
+// src/test/java/com/eventmanagement/catalog/IntervalTreeTest.java
+package com.eventmanagement.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    void whenQueried_thenMatchesLinearScanInBothOrders() {
+        Random random = new Random(42);
+        int size = 500;
+        long[] starts = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = random.nextInt(10_000);
+        }
+        Arrays.sort(starts);
+        long[] ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            // Mostly short intervals with the occasional long one
+            ends[i] = starts[i] + 1 + (i % 25 == 0 ? random.nextInt(5_000) : random.nextInt(50));
+        }
+        IntervalTree tree = new IntervalTree(ends);
+
+        for (int query = 0; query < 200; query++) {
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from + 1);
+            long endAfter = random.nextInt(12_000);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (ends[i] > endAfter) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> ascending = new ArrayList<>();
+            tree.forEachEndingAfter(from, to, endAfter, false, ascending::add);
+            List<Integer> descending = new ArrayList<>();
+            tree.forEachEndingAfter(from, to, endAfter, true, descending::add);
+
+            assertThat(ascending).isEqualTo(expected);
+            Collections.reverse(expected);
+            assertThat(descending).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void whenEmpty_thenNothingVisited() {
+        List<Integer> visited = new ArrayList<>();
+        new IntervalTree(new long[0]).forEachEndingAfter(0, 0, Long.MIN_VALUE, false, visited::add);
+
+        assertThat(visited).isEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+// src/test/java/com/eventmanagement/config/CompactWireFormatConfigTest.java
+package com.eventmanagement.config;
+
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactWireFormatConfigTest {
+
+    private final ObjectMapper smileMapper = CompactWireFormatConfig.smileMapper(new Jackson2ObjectMapperBuilder());
+
+    @Test
+    void uuidsAndDateTimes_ShouldBeWrittenCompactly() throws Exception {
+        EventResponse event = event();
+
+        JsonNode node = smileMapper.readTree(smileMapper.writeValueAsBytes(event));
+
+        assertThat(node.get("id").isBinary()).isTrue();
+        ByteBuffer id = ByteBuffer.wrap(node.get("id").binaryValue());
+        assertThat(id.remaining()).isEqualTo(16);
+        assertThat(new UUID(id.getLong(), id.getLong())).isEqualTo(event.getId());
+        assertThat(node.get("startTime").isIntegralNumber()).isTrue();
+        assertThat(node.get("startTime").longValue()).isEqualTo(event.getStartTime().toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    @Test
+    void pagedResponse_ShouldRoundTrip() throws Exception {
+        PagedResponse<EventResponse> page = new PagedResponse<>(List.of(event()), 2, 10, 21, 3);
+
+        PagedResponse<EventResponse> decoded = smileMapper.readValue(smileMapper.writeValueAsBytes(page),
+                new TypeReference<PagedResponse<EventResponse>>() { });
+
+        assertThat(decoded.getContent()).singleElement().satisfies(event -> {
+            assertThat(event.getId()).isEqualTo(page.getContent().get(0).getId());
+            assertThat(event.getStartTime()).isEqualTo(page.getContent().get(0).getStartTime());
+            assertThat(event.getTitle()).isEqualTo("Launch");
+        });
+        assertThat(decoded.getTotalElements()).isEqualTo(21);
+    }
+
+    private static EventResponse event() {
+        EventResponse event = new EventResponse();
+        event.setId(UUID.randomUUID());
+        event.setTitle("Launch");
+        event.setStartTime(LocalDateTime.of(2030, 5, 1, 18, 0, 30, 125_000_000));
+        return event;
+    }
+}
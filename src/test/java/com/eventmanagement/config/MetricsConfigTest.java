@@ -0,0 +1,50 @@
+// src/test/java/com/eventmanagement/config/MetricsConfigTest.java
+package com.eventmanagement.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MetricsConfig().outcomeMeterFilter());
+    }
+
+    @Test
+    void whenServiceTimerRegistered_thenOutcomeDerivedFromException() {
+        Timer.builder(MetricsConfig.SERVICE_TIMER).tag("exception", "none").register(meterRegistry);
+        Timer.builder(MetricsConfig.SERVICE_TIMER).tag("exception", "ResourceNotFoundException").register(meterRegistry);
+        Timer.builder(MetricsConfig.SERVICE_TIMER).tag("exception", "IllegalStateException").register(meterRegistry);
+
+        assertThat(meterRegistry.find(MetricsConfig.SERVICE_TIMER).tag("outcome", "SUCCESS").timer()).isNotNull();
+        assertThat(meterRegistry.find(MetricsConfig.SERVICE_TIMER).tag("outcome", "CLIENT_ERROR").timer()).isNotNull();
+        assertThat(meterRegistry.find(MetricsConfig.SERVICE_TIMER).tag("outcome", "SERVER_ERROR").timer()).isNotNull();
+    }
+
+    @Test
+    void whenRepositoryTimerRegistered_thenOutcomeTagAdded() {
+        Timer.builder(MetricsConfig.REPOSITORY_TIMER).tag("exception", "None").register(meterRegistry);
+
+        assertThat(meterRegistry.find(MetricsConfig.REPOSITORY_TIMER).tag("outcome", "SUCCESS").timer()).isNotNull();
+    }
+
+    @Test
+    void whenOtherTimerRegistered_thenLeftUntouched() {
+        Timer timer = Timer.builder("http.server.requests").tag("exception", "none").register(meterRegistry);
+
+        assertThat(timer.getId().getTag("outcome")).isNull();
+    }
+
+    @Test
+    void whenNoRequestBound_thenEndpointIsNone() {
+        assertThat(MetricsConfig.currentEndpoint()).isEqualTo("none");
+    }
+}
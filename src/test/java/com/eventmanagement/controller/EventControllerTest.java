@@ -1,11 +1,26 @@
 // src/test/java/com/eventmanagement/controller/EventControllerTest.java
 package com.eventmanagement.controller;
 
+import com.eventmanagement.cache.ResponseBodyCache;
+import com.eventmanagement.catalog.EventCatalogService;
 import com.eventmanagement.config.BaseWebMvcTest;
+import com.eventmanagement.config.CompactWireFormatConfig;
+import com.eventmanagement.config.HttpCacheConfig;
+import com.eventmanagement.config.ResponseCacheConfig;
 import com.eventmanagement.dto.request.CreateEventRequest;
+import com.eventmanagement.dto.request.EventBatchRequest;
+import com.eventmanagement.dto.response.AttendanceCountsResponse;
+import com.eventmanagement.dto.response.EventBatchResponse;
+import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventDetailVersion;
+import com.eventmanagement.dto.response.EventFieldsResponse;
 import com.eventmanagement.dto.response.EventResponse;
 import com.eventmanagement.dto.response.PagedResponse;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.DateRangeMode;
+import com.eventmanagement.enums.EventField;
 import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.realtime.AttendanceStreamHub;
 import com.eventmanagement.security.UserPrincipal;
 import com.eventmanagement.service.EventService;
 import com.eventmanagement.service.FilterService;
@@ -16,18 +31,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -35,7 +61,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(EventController.class)
+@WebMvcTest(controllers = EventController.class, properties = "app.response-cache.enabled=true")
+@Import({HttpCacheConfig.class, ResponseCacheConfig.class, ResponseBodyCache.class})
 class EventControllerTest extends BaseWebMvcTest {
 
     @MockBean
@@ -53,6 +80,12 @@ class EventControllerTest extends BaseWebMvcTest {
     @MockBean
     private FilterService filterService;
 
+    @MockBean
+    private AttendanceStreamHub attendanceStreamHub;
+
+    @MockBean
+    private EventCatalogService eventCatalogService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -132,7 +165,8 @@ class EventControllerTest extends BaseWebMvcTest {
         var pagedResponse = new PagedResponse<>(filteredEvents, 0, 10, 1L, 1);
 
         when(eventService.getAllEvents(
-                eq("Test"), eq("Test Location"), any(), any(), eq(Visibility.PUBLIC), any(), any()))
+                eq("Test"), eq("Test Location"), any(), any(), eq(DateRangeMode.CONTAINS), eq(Visibility.PUBLIC),
+                any(), any()))
                 .thenReturn(pagedResponse);
 
         mockMvc.perform(get("/api/events")
@@ -144,6 +178,257 @@ class EventControllerTest extends BaseWebMvcTest {
                 .andExpect(jsonPath("$.content[0].location").value("Test Location"));
 
         verify(eventService).getAllEvents(
-                eq("Test"), eq("Test Location"), any(), any(), eq(Visibility.PUBLIC), any(), any());
+                eq("Test"), eq("Test Location"), any(), any(), eq(DateRangeMode.CONTAINS), eq(Visibility.PUBLIC),
+                any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetAllEvents_withOverlapsMode_thenOverlapModePassedToService() throws Exception {
+        var pagedResponse = new PagedResponse<>(List.of(eventResponse), 0, 10, 1L, 1);
+
+        when(eventService.getAllEvents(any(), any(), any(), any(), eq(DateRangeMode.OVERLAPS), any(), any(), any()))
+                .thenReturn(pagedResponse);
+
+        mockMvc.perform(get("/api/events")
+                        .param("startDate", "2026-06-01T00:00:00")
+                        .param("endDate", "2026-06-30T23:59:59")
+                        .param("dateMode", "overlaps"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Event"));
+
+        // The end bound is widened to the whole minute
+        verify(eventService).getAllEvents(any(), any(), eq(LocalDateTime.of(2026, 6, 1, 0, 0)),
+                eq(LocalDateTime.of(2026, 6, 30, 23, 59, 59, 999_999_000)), eq(DateRangeMode.OVERLAPS), any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetAllEvents_fromCatalog_thenFiltersNormalizedAsForDatabase() throws Exception {
+        when(eventCatalogService.findPublicEvents(eq("Test"), eq(null), eq(LocalDateTime.of(2026, 6, 1, 10, 15)),
+                eq(LocalDateTime.of(2026, 6, 1, 12, 0, 59, 999_999_000)), eq(DateRangeMode.CONTAINS), any(), any()))
+                .thenReturn(Optional.of(new PagedResponse<>(List.of(eventResponse), 0, 10, 1L, 1)));
+
+        mockMvc.perform(get("/api/events")
+                        .param("title", "  Test ")
+                        .param("location", " ")
+                        .param("startDate", "2026-06-01T10:15:42")
+                        .param("endDate", "2026-06-01T12:00:30")
+                        .param("visibility", "PUBLIC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Event"));
+
+        verify(eventService, never()).getAllEvents(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetNearbyEvents_withoutVisibility_thenPublicEventsRequested() throws Exception {
+        eventResponse.setDistanceKm(1.5);
+        var pagedResponse = new PagedResponse<>(List.of(eventResponse), 0, 10, 1L, 1);
+        when(eventService.getNearbyEvents(eq(6.9271), eq(79.8612), eq(5.0), eq(true), eq(Visibility.PUBLIC), any()))
+                .thenReturn(pagedResponse);
+
+        mockMvc.perform(get("/api/events/nearby")
+                        .param("lat", "6.9271")
+                        .param("lon", "79.8612")
+                        .param("radiusKm", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].distanceKm").value(1.5));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenStreamAttendanceCounts_thenSubscribedWithCurrentCounts() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        var counts = new AttendanceCountsResponse(eventId, Map.of(AttendanceStatus.GOING, 3L));
+        when(eventService.getAttendanceCounts(eq(eventId), any())).thenReturn(counts);
+        when(attendanceStreamHub.subscribe(eventId, counts)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/events/{id}/attendance/stream", eventId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(attendanceStreamHub).subscribe(eventId, counts);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetEventDetails_withCurrentETag_thenNotModifiedWithoutLoadingDetails() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 5, 1, 12, 0);
+        EventDetailVersion version = new EventDetailVersion(eventId, updatedAt, 0, null, null);
+        when(eventService.getEventDetailVersion(eventId, null)).thenReturn(version);
+
+        mockMvc.perform(get("/api/events/{id}", eventId)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/" + version.getETag()));
+
+        verify(eventService, never()).getEventDetails(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetEventDetails_withStaleCachedCopy_thenRefreshedAndTagged() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 5, 1, 12, 0);
+        LocalDateTime respondedAt = LocalDateTime.of(2030, 5, 2, 9, 30);
+        EventDetailVersion version = new EventDetailVersion(eventId, updatedAt, 1, respondedAt, respondedAt);
+        when(eventService.getEventDetailVersion(eventId, null)).thenReturn(version);
+        when(eventService.getEventDetails(eventId, null)).thenReturn(detail(eventId, updatedAt, List.of()));
+        when(eventService.refreshEventDetails(eventId, null)).thenReturn(detail(eventId, updatedAt, List.of(
+                new EventDetailResponse.AttendeeResponse(UUID.randomUUID(), "Guest", AttendanceStatus.GOING, respondedAt))));
+
+        mockMvc.perform(get("/api/events/{id}", eventId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/" + version.getETag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(jsonPath("$.attendeeCount").value(1));
+
+        verify(eventService).refreshEventDetails(eventId, null);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetEventDetails_anonymously_thenVaryKeepsAuthorizationAndAccept() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 5, 1, 12, 0);
+        when(eventService.getEventDetailVersion(eventId, null)).thenReturn(new EventDetailVersion(eventId, updatedAt, 0, null, null));
+        when(eventService.getEventDetails(eventId, null)).thenReturn(detail(eventId, updatedAt, List.of()));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Launch"))
+                .andReturn().getResponse();
+
+        // Served from the byte cache, which adds Accept-Encoding to the controller's values
+        assertThat(vary(response)).contains(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetEventDetails_anonymously_thenGzipAndIdentityShareWeakETag() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 5, 1, 12, 0);
+        EventDetailVersion version = new EventDetailVersion(eventId, updatedAt, 0, null, null);
+        when(eventService.getEventDetailVersion(eventId, null)).thenReturn(version);
+        when(eventService.getEventDetails(eventId, null)).thenReturn(detail(eventId, updatedAt, List.of()));
+
+        mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/" + version.getETag()));
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/" + version.getETag()));
+        mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.IF_NONE_MATCH, "W/" + version.getETag()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetUpcomingEvents_thenPubliclyCacheableWithWeakETag() throws Exception {
+        when(eventService.getUpcomingEvents(any())).thenReturn(new PagedResponse<>(List.of(eventResponse), 0, 10, 1L, 1));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/events/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public, stale-while-revalidate=30"))
+                .andReturn().getResponse();
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+
+        assertThat(vary(response)).contains(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        assertThat(eTag).startsWith("W/\"");
+        mockMvc.perform(get("/api/events/upcoming").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetUpcomingEvents_acceptingSmile_thenServedAsSmile() throws Exception {
+        when(eventService.getUpcomingEvents(any())).thenReturn(new PagedResponse<>(List.of(eventResponse), 0, 10, 1L, 1));
+
+        mockMvc.perform(get("/api/events/upcoming").accept(CompactWireFormatConfig.SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CompactWireFormatConfig.SMILE))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.AUTHORIZATION + ", " + HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenGetUpcomingEvents_withFields_thenOnlyThoseFieldsReturned() throws Exception {
+        EventFieldsResponse sparse = new EventFieldsResponse();
+        sparse.put(EventField.ID, eventResponse.getId());
+        sparse.put(EventField.TITLE, eventResponse.getTitle());
+        when(eventService.getEventFields(any(), eq("title"), any()))
+                .thenReturn(new PagedResponse<>(List.of(sparse), 0, 10, 1L, 1));
+
+        mockMvc.perform(get("/api/events/upcoming").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(eventResponse.getId().toString()))
+                .andExpect(jsonPath("$.content[0].title").value("Test Event"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+
+        verify(eventService, never()).getUpcomingEvents(any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenBatchGetEvents_thenFoundAndMissingListedTogether() throws Exception {
+        UUID eventId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        EventBatchResponse batch = new EventBatchResponse(
+                List.of(detail(eventId, LocalDateTime.now(), List.of())), List.of(missingId), List.of());
+        when(eventService.getEventDetailsBatch(List.of(eventId, missingId), null)).thenReturn(batch);
+
+        mockMvc.perform(post("/api/events/batch-get")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EventBatchRequest(List.of(eventId, missingId)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].id").value(eventId.toString()))
+                .andExpect(jsonPath("$.notFound[0]").value(missingId.toString()))
+                .andExpect(jsonPath("$.forbidden").isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void whenBatchGetEvents_withTooManyIds_thenBadRequest() throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i <= EventBatchRequest.MAX_IDS; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        mockMvc.perform(post("/api/events/batch-get")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EventBatchRequest(ids))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/events/batch-get")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EventBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getEventDetailsBatch(any(), any());
+    }
+
+    private static List<String> vary(MockHttpServletResponse response) {
+        return response.getHeaders(HttpHeaders.VARY).stream()
+                .flatMap(value -> Arrays.stream(value.split(",\\s*")))
+                .toList();
+    }
+
+    private static EventDetailResponse detail(UUID eventId, LocalDateTime updatedAt,
+                                              List<EventDetailResponse.AttendeeResponse> attendees) {
+        EventDetailResponse detail = new EventDetailResponse();
+        detail.setId(eventId);
+        detail.setTitle("Launch");
+        detail.setUpdatedAt(updatedAt);
+        detail.setAttendees(attendees);
+        detail.setAttendeeCount((long) attendees.size());
+        return detail;
     }
 }
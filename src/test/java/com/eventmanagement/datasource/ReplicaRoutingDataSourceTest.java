@@ -0,0 +1,123 @@
+// src/test/java/com/eventmanagement/datasource/ReplicaRoutingDataSourceTest.java
+package com.eventmanagement.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-0000000000a1";
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private ReadYourWritesTracker tracker;
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), nanos::get);
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(tracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primary,
+                ReplicaRoutingDataSource.Target.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void whenReadOnlyTransaction_thenRoutedToReplica() {
+        assertThat(readOnlyQuery()).isEqualTo("replica");
+    }
+
+    @Test
+    void whenReadWriteTransactionOrNoTransaction_thenRoutedToPrimary() {
+        assertThat(readWriteQuery()).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void whenUserCommittedWrite_thenTheirReadsArePinnedToPrimary() {
+        asUser(this::readWriteQuery);
+
+        assertThat(asUser(this::readOnlyQuery)).isEqualTo("primary");
+        assertThat(readOnlyQuery()).isEqualTo("replica");
+    }
+
+    @Test
+    void whenStickinessWindowExpires_thenReadsReturnToReplica() {
+        asUser(this::readWriteQuery);
+
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertThat(asUser(this::readOnlyQuery)).isEqualTo("replica");
+    }
+
+    @Test
+    void whenWriteRolledBack_thenUserIsNotPinned() {
+        asUser(() -> writeTransaction.execute(status -> {
+            status.setRollbackOnly();
+            return currentDatabase();
+        }));
+
+        assertThat(asUser(this::readOnlyQuery)).isEqualTo("replica");
+    }
+
+    private String asUser(Supplier<String> callback) {
+        return tracker.callAs(USER_ID, callback);
+    }
+
+    private String readOnlyQuery() {
+        return readOnlyTransaction.execute(status -> currentDatabase());
+    }
+
+    private String readWriteQuery() {
+        return writeTransaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DriverManagerDataSource database(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
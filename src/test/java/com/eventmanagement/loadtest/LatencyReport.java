@@ -0,0 +1,105 @@
+// src/test/java/com/eventmanagement/loadtest/LatencyReport.java
+package com.eventmanagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<LoadScenario, Histogram> histograms = new EnumMap<>(LoadScenario.class);
+    private final Map<LoadScenario, LongAdder> errors = new EnumMap<>(LoadScenario.class);
+
+    LatencyReport() {
+        for (LoadScenario scenario : LoadScenario.values()) {
+            histograms.put(scenario, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    void record(LoadScenario scenario, long elapsedNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(scenario).recordValue(micros);
+        if (!success) {
+            errors.get(scenario).increment();
+        }
+    }
+
+    Histogram combined() {
+        Histogram combined = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        histograms.values().forEach(combined::add);
+        return combined;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    double errorRate() {
+        long total = combined().getTotalCount();
+        return total == 0 ? 0.0 : (double) totalErrors() / total;
+    }
+
+    long p99Millis(LoadScenario scenario) {
+        return Math.round(histograms.get(scenario).getValueAtPercentile(99.0) / MICROS_PER_MILLI);
+    }
+
+    Map<LoadScenario, Histogram> getHistograms() {
+        return histograms;
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        double seconds = Math.max(elapsed.toMillis() / 1000.0, 0.001);
+        out.printf("%-8s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LoadScenario scenario : LoadScenario.values()) {
+            Histogram histogram = histograms.get(scenario);
+            if (histogram.getTotalCount() > 0) {
+                printRow(out, scenario.name(), histogram, errors.get(scenario).sum(), seconds);
+            }
+        }
+        printRow(out, "ALL", combined(), totalErrors(), seconds);
+    }
+
+    void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (LoadScenario scenario : LoadScenario.values()) {
+            Histogram histogram = histograms.get(scenario);
+            if (histogram.getTotalCount() > 0) {
+                writeHistogram(directory.resolve(scenario.name().toLowerCase() + ".hgrm"), histogram);
+            }
+        }
+        writeHistogram(directory.resolve("all.hgrm"), combined());
+    }
+
+    private void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private void printRow(PrintStream out, String name, Histogram histogram, long errorCount, double seconds) {
+        out.printf("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errorCount,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+}
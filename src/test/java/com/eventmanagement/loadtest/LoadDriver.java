@@ -0,0 +1,159 @@
+// src/test/java/com/eventmanagement/loadtest/LoadDriver.java
+package com.eventmanagement.loadtest;
+
+import com.eventmanagement.dto.request.AttendanceRequest;
+import com.eventmanagement.dto.request.LoginRequest;
+import com.eventmanagement.dto.response.AuthResponse;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class LoadDriver implements AutoCloseable {
+
+    private static final AttendanceStatus[] RSVP_STATUSES = {
+            AttendanceStatus.GOING, AttendanceStatus.MAYBE, AttendanceStatus.DECLINED};
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LoadTestSettings settings;
+    private final LoadTestDataSeeder.SeedData seedData;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final LoadScenario[] weightedScenarios;
+    private final List<String> tokens = new ArrayList<>();
+
+    LoadDriver(String baseUrl, ObjectMapper objectMapper, LoadTestSettings settings,
+               LoadTestDataSeeder.SeedData seedData) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.seedData = seedData;
+        this.httpExecutor = Executors.newFixedThreadPool(settings.getConcurrency());
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+        this.weightedScenarios = expandMix(settings.getMix());
+    }
+
+    void loginUsers() throws IOException, InterruptedException {
+        for (int i = 0; i < settings.getAuthenticatedUsers(); i++) {
+            HttpResponse<String> response = login(seedData.userEmails().get(i));
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Login failed during load test setup: " + response.body());
+            }
+            tokens.add(objectMapper.readValue(response.body(), AuthResponse.class).getAccessToken());
+        }
+    }
+
+    LatencyReport run(Duration duration) throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService workers = Executors.newFixedThreadPool(settings.getConcurrency());
+
+        for (int i = 0; i < settings.getConcurrency(); i++) {
+            workers.submit(() -> {
+                while (running.get()) {
+                    LoadScenario scenario = weightedScenarios[ThreadLocalRandom.current().nextInt(weightedScenarios.length)];
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = execute(scenario).statusCode() / 100 == 2;
+                    } catch (IOException ex) {
+                        success = false;
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    report.record(scenario, System.nanoTime() - start, success);
+                }
+            });
+        }
+
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return report;
+    }
+
+    // The client's pool outlives each run, as the warm-up and the measured run share it
+    @Override
+    public void close() {
+        httpExecutor.shutdown();
+    }
+
+    private HttpResponse<String> execute(LoadScenario scenario) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (scenario) {
+            case BROWSE -> get("/api/events/upcoming?page=" + random.nextInt(5) + "&size=10");
+            case SEARCH -> get("/api/events?title=" + encode(pick(LoadTestDataSeeder.TITLE_WORDS))
+                    + "&page=" + random.nextInt(3) + "&size=20");
+            case DETAIL -> get("/api/events/" + pick(seedData.publicEventIds()));
+            case RSVP -> post("/api/events/attendance",
+                    new AttendanceRequest(pick(seedData.publicEventIds()),
+                            RSVP_STATUSES[random.nextInt(RSVP_STATUSES.length)]),
+                    pick(tokens));
+            case LOGIN -> login(pick(seedData.userEmails()));
+        };
+    }
+
+    private HttpResponse<String> login(String email) throws IOException, InterruptedException {
+        return post("/api/auth/login", new LoginRequest(email, LoadTestDataSeeder.PASSWORD), null);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, Object body, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static LoadScenario[] expandMix(Map<LoadScenario, Integer> mix) {
+        List<LoadScenario> expanded = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                expanded.add(scenario);
+            }
+        });
+        return expanded.toArray(new LoadScenario[0]);
+    }
+}
@@ -0,0 +1,6 @@
+// src/test/java/com/eventmanagement/loadtest/LoadScenario.java
+package com.eventmanagement.loadtest;
+
+enum LoadScenario {
+    BROWSE, SEARCH, DETAIL, RSVP, LOGIN
+}
@@ -0,0 +1,120 @@
+// src/test/java/com/eventmanagement/loadtest/LoadTestDataSeeder.java
+package com.eventmanagement.loadtest;
+
+import com.eventmanagement.entity.Attendance;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.Role;
+import com.eventmanagement.enums.Visibility;
+import jakarta.persistence.EntityManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+class LoadTestDataSeeder {
+
+    static final String PASSWORD = "password123";
+    static final List<String> TITLE_WORDS = List.of(
+            "Conference", "Meetup", "Workshop", "Concert", "Hackathon", "Festival", "Summit", "Webinar");
+
+    private static final List<String> CITIES = List.of(
+            "Colombo", "Kandy", "Galle", "London", "Berlin", "Singapore", "Toronto", "Sydney");
+    private static final AttendanceStatus[] STATUSES = {
+            AttendanceStatus.GOING, AttendanceStatus.MAYBE, AttendanceStatus.DECLINED};
+    private static final int BATCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random = new Random(42);
+
+    LoadTestDataSeeder(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                       PasswordEncoder passwordEncoder) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    SeedData seed(LoadTestSettings settings) {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        List<User> users = new ArrayList<>(settings.getUsers());
+        for (int i = 0; i < settings.getUsers(); i++) {
+            users.add(new User("Load User " + i, "load.user" + i + "@example.com", passwordHash, Role.USER));
+        }
+        persistInBatches(users);
+
+        List<Event> events = new ArrayList<>(settings.getEvents());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < settings.getEvents(); i++) {
+            LocalDateTime start = now.plusHours(1 + random.nextInt(24 * 180));
+            Visibility visibility = random.nextInt(10) == 0 ? Visibility.PRIVATE : Visibility.PUBLIC;
+            events.add(new Event(
+                    TITLE_WORDS.get(random.nextInt(TITLE_WORDS.size())) + " #" + i,
+                    "Seeded event " + i + " for load testing",
+                    users.get(random.nextInt(users.size())),
+                    start,
+                    start.plusHours(1 + random.nextInt(8)),
+                    CITIES.get(random.nextInt(CITIES.size())),
+                    visibility));
+        }
+        persistInBatches(events);
+
+        List<UUID> publicEventIds = events.stream()
+                .filter(event -> event.getVisibility() == Visibility.PUBLIC)
+                .map(Event::getId)
+                .toList();
+        List<Event> publicEvents = events.stream()
+                .filter(event -> event.getVisibility() == Visibility.PUBLIC)
+                .toList();
+
+        Set<String> seen = new HashSet<>();
+        List<Attendance> attendances = new ArrayList<>(settings.getAttendances());
+        int maxAttempts = settings.getAttendances() * 4;
+        for (int attempt = 0; attendances.size() < settings.getAttendances() && attempt < maxAttempts; attempt++) {
+            Event event = publicEvents.get(random.nextInt(publicEvents.size()));
+            User user = users.get(random.nextInt(users.size()));
+            if (seen.add(event.getId() + ":" + user.getId())) {
+                Attendance attendance = new Attendance(event, user, STATUSES[random.nextInt(STATUSES.length)]);
+                attendance.setRespondedAt(now);
+                attendances.add(attendance);
+            }
+        }
+        persistInBatches(attendances);
+
+        List<String> emails = users.stream().map(User::getEmail).toList();
+        return new SeedData(emails, publicEventIds);
+    }
+
+    private <T> void persistInBatches(List<T> entities) {
+        for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+            List<T> batch = entities.subList(from, Math.min(from + BATCH_SIZE, entities.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (T entity : batch) {
+                    if (entity instanceof Attendance attendance) {
+                        attendance.setEvent(entityManager.getReference(Event.class, attendance.getEvent().getId()));
+                        attendance.setUser(entityManager.getReference(User.class, attendance.getUser().getId()));
+                        entityManager.persist(attendance);
+                    } else if (entity instanceof Event event) {
+                        event.setHost(entityManager.getReference(User.class, event.getHost().getId()));
+                        entityManager.persist(event);
+                    } else {
+                        entityManager.persist(entity);
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    record SeedData(List<String> userEmails, List<UUID> publicEventIds) {}
+}
@@ -0,0 +1,101 @@
+// src/test/java/com/eventmanagement/loadtest/LoadTestSettings.java
+package com.eventmanagement.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+final class LoadTestSettings {
+
+    private final int users;
+    private final int events;
+    private final int attendances;
+    private final int concurrency;
+    private final int authenticatedUsers;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<LoadScenario, Integer> mix;
+    private final double maxErrorRate;
+    private final long maxP99Millis;
+    private final Path reportDirectory;
+
+    private LoadTestSettings(int users, int events, int attendances, int concurrency, int authenticatedUsers,
+                             Duration warmup, Duration duration, Map<LoadScenario, Integer> mix,
+                             double maxErrorRate, long maxP99Millis, Path reportDirectory) {
+        this.users = users;
+        this.events = events;
+        this.attendances = attendances;
+        this.concurrency = concurrency;
+        this.authenticatedUsers = authenticatedUsers;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.maxErrorRate = maxErrorRate;
+        this.maxP99Millis = maxP99Millis;
+        this.reportDirectory = reportDirectory;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        int users = Integer.getInteger("loadtest.users", 200);
+        return new LoadTestSettings(
+                users,
+                Integer.getInteger("loadtest.events", 2000),
+                Integer.getInteger("loadtest.attendances", 10000),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Math.min(users, Integer.getInteger("loadtest.authenticatedUsers", 50)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30L)),
+                parseMix(System.getProperty("loadtest.mix", "browse:40,search:20,detail:25,rsvp:10,login:5")),
+                Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")),
+                Long.getLong("loadtest.maxP99Ms", 0L),
+                Path.of(System.getProperty("loadtest.reportDir", "target/load-test"))
+        );
+    }
+
+    static Map<LoadScenario, Integer> parseMix(String spec) {
+        Map<LoadScenario, Integer> weights = new EnumMap<>(LoadScenario.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(LoadScenario.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix must contain at least one scenario");
+        }
+        return weights;
+    }
+
+    int getUsers() { return users; }
+
+    int getEvents() { return events; }
+
+    int getAttendances() { return attendances; }
+
+    int getConcurrency() { return concurrency; }
+
+    int getAuthenticatedUsers() { return authenticatedUsers; }
+
+    Duration getWarmup() { return warmup; }
+
+    Duration getDuration() { return duration; }
+
+    Map<LoadScenario, Integer> getMix() { return mix; }
+
+    double getMaxErrorRate() { return maxErrorRate; }
+
+    long getMaxP99Millis() { return maxP99Millis; }
+
+    Path getReportDirectory() { return reportDirectory; }
+
+    @Override
+    public String toString() {
+        return String.format("users=%d, events=%d, attendances=%d, concurrency=%d, warmup=%ss, duration=%ss, mix=%s",
+                users, events, attendances, concurrency, warmup.toSeconds(), duration.toSeconds(), mix);
+    }
+}
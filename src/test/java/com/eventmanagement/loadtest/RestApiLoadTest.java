@@ -0,0 +1,79 @@
+// src/test/java/com/eventmanagement/loadtest/RestApiLoadTest.java
+package com.eventmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class RestApiLoadTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void runMixedWorkload() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        System.out.println("Load test settings: " + settings);
+
+        long seedStart = System.nanoTime();
+        LoadTestDataSeeder.SeedData seedData =
+                new LoadTestDataSeeder(entityManager, transactionTemplate, passwordEncoder).seed(settings);
+        System.out.printf("Seeded data in %d ms%n", Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+        LatencyReport report;
+        try (LoadDriver driver = new LoadDriver("http://localhost:" + port, objectMapper, settings, seedData)) {
+            driver.loginUsers();
+
+            driver.run(settings.getWarmup());
+            report = driver.run(settings.getDuration());
+        }
+
+        report.print(System.out, settings.getDuration());
+        report.writeTo(settings.getReportDirectory());
+
+        assertThat(report.combined().getTotalCount()).isPositive();
+        assertThat(report.errorRate()).isLessThanOrEqualTo(settings.getMaxErrorRate());
+        if (settings.getMaxP99Millis() > 0) {
+            for (LoadScenario scenario : settings.getMix().keySet()) {
+                assertThat(report.p99Millis(scenario))
+                        .as("p99 latency of %s", scenario)
+                        .isLessThanOrEqualTo(settings.getMaxP99Millis());
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+// src/test/java/com/eventmanagement/loadtest/UuidBulkLoadTest.java
+package com.eventmanagement.loadtest;
+
+import com.eventmanagement.util.UuidUtils;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares random (v4) and time-ordered (v7) primary keys on a bulk load, both for keys
+ * generated by the application (COPY) and by the database column default (INSERT ... SELECT).
+ */
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+class UuidBulkLoadTest {
+
+    private static final int COPY_BATCH_ROWS = 10_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=256MB", "-c", "max_wal_size=4GB");
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void compareInsertThroughputAndIndexSize() throws SQLException {
+        int rows = Integer.getInteger("loadtest.uuidRows", 10_000_000);
+        System.out.printf("UUID bulk load: %,d rows per strategy%n", rows);
+
+        List<BulkLoadResult> results = new ArrayList<>();
+        results.add(copyLoad("app_v4", rows, UUID::randomUUID));
+        results.add(copyLoad("app_v7", rows, UuidUtils::randomV7));
+        results.add(defaultLoad("db_v4", rows, "gen_random_uuid()"));
+        results.add(defaultLoad("db_v7", rows, "uuid_generate_v7()"));
+
+        System.out.printf("%-8s %12s %14s %14s %14s %10s%n",
+                "strategy", "millis", "rows/s", "table bytes", "pk bytes", "leaf dens.");
+        results.forEach(result -> System.out.printf("%-8s %12d %14.0f %,14d %,14d %10s%n",
+                result.strategy(), result.millis(), result.rowsPerSecond(), result.tableBytes(),
+                result.indexBytes(), result.leafDensity()));
+
+        assertThat(results.get(1).indexBytes()).isLessThan(results.get(0).indexBytes());
+        assertThat(results.get(3).indexBytes()).isLessThan(results.get(2).indexBytes());
+    }
+
+    private BulkLoadResult copyLoad(String table, int rows, Supplier<UUID> ids) throws SQLException {
+        try (Connection connection = connect()) {
+            createTable(connection, table, null);
+
+            long start = System.nanoTime();
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + table + " (id, payload) FROM STDIN");
+            StringBuilder batch = new StringBuilder(COPY_BATCH_ROWS * 50);
+            for (int i = 0; i < rows; i++) {
+                batch.append(ids.get()).append('\t').append("row ").append(i).append('\n');
+                if ((i + 1) % COPY_BATCH_ROWS == 0 || i == rows - 1) {
+                    byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+                    copy.writeToCopy(bytes, 0, bytes.length);
+                    batch.setLength(0);
+                }
+            }
+            copy.endCopy();
+            return measure(connection, table, rows, System.nanoTime() - start);
+        }
+    }
+
+    private BulkLoadResult defaultLoad(String table, int rows, String idDefault) throws SQLException {
+        try (Connection connection = connect()) {
+            createTable(connection, table, idDefault);
+
+            long start = System.nanoTime();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO " + table + " (payload) SELECT 'row ' || g FROM generate_series(1, " +
+                        rows + ") g");
+            }
+            return measure(connection, table, rows, System.nanoTime() - start);
+        }
+    }
+
+    private void createTable(Connection connection, String table, String idDefault) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE UNLOGGED TABLE " + table + " (id UUID PRIMARY KEY" +
+                    (idDefault != null ? " DEFAULT " + idDefault : "") + ", payload TEXT NOT NULL)");
+        }
+    }
+
+    private BulkLoadResult measure(Connection connection, String table, int rows, long nanos) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+            long tableBytes;
+            long indexBytes;
+            try (ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "'), " +
+                    "pg_relation_size('" + table + "_pkey')")) {
+                rs.next();
+                tableBytes = rs.getLong(1);
+                indexBytes = rs.getLong(2);
+            }
+            return new BulkLoadResult(table, rows, Duration.ofNanos(nanos).toMillis(), tableBytes, indexBytes,
+                    leafDensity(statement, table + "_pkey"));
+        }
+    }
+
+    // pgstattuple ships with the official image but is optional elsewhere
+    private String leafDensity(Statement statement, String index) {
+        try {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            try (ResultSet rs = statement.executeQuery("SELECT avg_leaf_density FROM pgstatindex('" + index + "')")) {
+                rs.next();
+                return String.format("%.1f%%", rs.getDouble(1));
+            }
+        } catch (SQLException e) {
+            return "n/a";
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private record BulkLoadResult(String strategy, int rows, long millis, long tableBytes, long indexBytes,
+                                  String leafDensity) {
+
+        double rowsPerSecond() {
+            return millis == 0 ? rows : rows * 1000.0 / millis;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// src/test/java/com/eventmanagement/outbox/OutboxRelayTest.java
+package com.eventmanagement.outbox;
+
+import com.eventmanagement.config.OutboxConfig;
+import com.eventmanagement.enums.DomainEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest {
+
+    private static final UUID EVENT_A = UUID.randomUUID();
+    private static final UUID EVENT_B = UUID.randomUUID();
+
+    private final List<DomainEvent> received = new ArrayList<>();
+
+    @Test
+    void dispatch_ShouldDeliverInIdOrderAndHoldBackAggregateAfterFailure() {
+        DomainEventSubscriber failOnSecond = event -> {
+            if (event.id() == 2) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        OutboxRelay relay = new OutboxRelay(new OutboxConfig(), new ObjectMapper(), List.of(received::add, failOnSecond));
+
+        OutboxRelay.Outcome outcome = relay.dispatch(List.of(
+                row(1, EVENT_A, DomainEventType.EVENT_CREATED, 0),
+                row(2, EVENT_A, DomainEventType.ATTENDANCE_CHANGED, 2),
+                row(3, EVENT_B, DomainEventType.EVENT_UPDATED, 0),
+                row(4, EVENT_A, DomainEventType.EVENT_UPDATED, 0)));
+
+        assertThat(outcome.delivered()).containsExactly(1L, 3L);
+        assertThat(outcome.failed()).singleElement().satisfies(failure -> {
+            assertThat(failure.id()).isEqualTo(2L);
+            assertThat(failure.attempts()).isEqualTo(3);
+            assertThat(failure.error()).contains("boom");
+        });
+        // The failed row reached the first subscriber; it is offered to both again on retry
+        assertThat(received).extracting(DomainEvent::id).containsExactly(1L, 2L, 3L);
+        assertThat(received.get(0).payload().get("title").asText()).isEqualTo("Launch");
+        assertThat(received.get(0).type()).isEqualTo(DomainEventType.EVENT_CREATED);
+    }
+
+    @Test
+    void dispatch_ShouldKeepRowsOfUnknownType() {
+        OutboxRelay relay = new OutboxRelay(new OutboxConfig(), new ObjectMapper(), List.of(received::add));
+        OutboxRelay.OutboxRow retired = new OutboxRelay.OutboxRow(1, "EVENT_ARCHIVED", EVENT_A, "{}",
+                LocalDateTime.now(), 0, 5);
+
+        OutboxRelay.Outcome outcome = relay.dispatch(List.of(retired, row(2, EVENT_B, DomainEventType.EVENT_UPDATED, 0)));
+
+        assertThat(outcome.delivered()).containsExactly(2L);
+        assertThat(outcome.failed()).extracting(OutboxRelay.Failure::id).containsExactly(1L);
+        assertThat(received).extracting(DomainEvent::id).containsExactly(2L);
+    }
+
+    @Test
+    void retryDelay_ShouldDoubleUpToTheMaximum() {
+        OutboxConfig config = new OutboxConfig();
+        config.setRetryDelay(Duration.ofSeconds(1));
+        config.setMaxRetryDelay(Duration.ofSeconds(10));
+        OutboxRelay relay = new OutboxRelay(config, new ObjectMapper(), List.of());
+
+        assertThat(relay.retryDelay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.retryDelay(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(relay.retryDelay(5)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(relay.retryDelay(Integer.MAX_VALUE)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    private static OutboxRelay.OutboxRow row(long id, UUID aggregateId, DomainEventType type, int attempts) {
+        return new OutboxRelay.OutboxRow(id, type.name(), aggregateId, "{\"id\":\"" + aggregateId + "\",\"title\":\"Launch\"}",
+                LocalDateTime.now(), attempts, 5);
+    }
+}
@@ -0,0 +1,136 @@
+// src/test/java/com/eventmanagement/realtime/AttendanceStreamHubTest.java
+package com.eventmanagement.realtime;
+
+import com.eventmanagement.dto.response.AttendanceCountsResponse;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.repository.AttendanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AttendanceStreamHubTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    private final AttendanceRepository attendanceRepository = mock(AttendanceRepository.class);
+    private final Queue<Runnable> pendingSends = new ArrayDeque<>();
+    private AttendanceStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new AttendanceStreamHub(attendanceRepository, pendingSends::add);
+    }
+
+    @Test
+    void whenManyChangesBetweenFlushes_thenCountsLoadedAndSentOnce() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(EVENT_ID, counts(1), emitter);
+        runPendingSends();
+        goingCount(4);
+
+        hub.attendanceChanged(EVENT_ID);
+        hub.attendanceChanged(EVENT_ID);
+        hub.attendanceChanged(EVENT_ID);
+        hub.flush();
+        hub.flush();
+        runPendingSends();
+
+        verify(attendanceRepository, times(1)).countAttendanceByStatus(EVENT_ID);
+        assertThat(emitter.goingCounts).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void whenSubscriberIsSlow_thenIntermediateUpdatesAreDropped() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(EVENT_ID, counts(1), emitter);
+
+        // The initial send has not run yet when two more flushes produce updates
+        goingCount(2);
+        hub.attendanceChanged(EVENT_ID);
+        hub.flush();
+        goingCount(3);
+        hub.attendanceChanged(EVENT_ID);
+        hub.flush();
+        runPendingSends();
+
+        assertThat(emitter.goingCounts).containsExactly(3L);
+    }
+
+    @Test
+    void whenOneSubscriberFails_thenOthersStillReceiveUpdates() {
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failing = true;
+        RecordingEmitter healthy = new RecordingEmitter();
+        hub.subscribe(EVENT_ID, counts(1), broken);
+        hub.subscribe(EVENT_ID, counts(1), healthy);
+        runPendingSends();
+
+        goingCount(5);
+        hub.attendanceChanged(EVENT_ID);
+        hub.flush();
+        runPendingSends();
+
+        assertThat(hub.subscriberCount(EVENT_ID)).isEqualTo(2);
+        assertThat(healthy.goingCounts).containsExactly(1L, 5L);
+        assertThat(broken.goingCounts).isEmpty();
+    }
+
+    @Test
+    void whenNobodyIsWatching_thenChangesAreIgnored() {
+        hub.attendanceChanged(EVENT_ID);
+        hub.flush();
+
+        verifyNoInteractions(attendanceRepository);
+    }
+
+    private void goingCount(long going) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{AttendanceStatus.GOING, going});
+        when(attendanceRepository.countAttendanceByStatus(EVENT_ID)).thenReturn(rows);
+    }
+
+    private static AttendanceCountsResponse counts(long going) {
+        return new AttendanceCountsResponse(EVENT_ID, Map.of(AttendanceStatus.GOING, going));
+    }
+
+    private void runPendingSends() {
+        Runnable send;
+        while ((send = pendingSends.poll()) != null) {
+            send.run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Long> goingCounts = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof AttendanceCountsResponse counts) {
+                    goingCounts.add(counts.getAttendanceBreakdown().get(AttendanceStatus.GOING));
+                }
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -122,4 +123,63 @@ class AttendanceRepositoryTest extends BaseRepositoryTest {
 
         assertThat(count).isEqualTo(1L);
     }
+
+    @Test
+    void whenFindByEventIdIncludingDeleted_thenSoftDeletedAttendanceReturned() {
+        testAttendance.softDelete();
+        entityManager.persistAndFlush(testAttendance);
+        entityManager.clear();
+
+        assertThat(attendanceRepository.findByEventId(testEvent.getId())).isEmpty();
+        assertThat(attendanceRepository.findByEventIdIncludingDeleted(testEvent.getId())).singleElement()
+                .satisfies(attendance -> {
+                    assertThat(attendance.getUser().getId()).isEqualTo(testUser.getId());
+                    assertThat(attendance.getDeletedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void whenFindAttendanceVersion_thenReturnCountAndLatestResponse() {
+        testAttendance.setRespondedAt(LocalDateTime.of(2030, 5, 1, 18, 0));
+        entityManager.persistAndFlush(testAttendance);
+
+        Object[] version = attendanceRepository.findAttendanceVersion(testEvent.getId()).get(0);
+        Object[] none = attendanceRepository.findAttendanceVersion(UUID.randomUUID()).get(0);
+
+        assertThat(version[0]).isEqualTo(1L);
+        assertThat(version[1]).isEqualTo(LocalDateTime.of(2030, 5, 1, 18, 0));
+        assertThat(version[2]).isNotNull();
+        assertThat(none[0]).isEqualTo(0L);
+        assertThat(none[1]).isNull();
+    }
+
+    @Test
+    void whenLoadingSeveralEvents_thenAttendancesAndCountsAreGroupedByEvent() {
+        entityManager.persist(testAttendance);
+        User guest = new User();
+        guest.setName("Guest");
+        guest.setEmail("guest@example.com");
+        guest.setPassword("password123");
+        guest.setRole(Role.USER);
+        guest = entityManager.persist(guest);
+        Attendance maybe = new Attendance(testEvent, guest, AttendanceStatus.MAYBE);
+        maybe.setRespondedAt(LocalDateTime.now());
+        entityManager.persist(maybe);
+        Event other = entityManager.persist(new Event("Other", "Description", testUser, LocalDateTime.now().plusDays(2),
+                LocalDateTime.now().plusDays(2).plusHours(1), "Test Location", Visibility.PUBLIC));
+        Attendance going = new Attendance(other, guest, AttendanceStatus.GOING);
+        going.setRespondedAt(LocalDateTime.now());
+        entityManager.persist(going);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Attendance> attendances = attendanceRepository.findByEventIdIn(List.of(testEvent.getId(), other.getId()));
+        List<Object[]> counts = attendanceRepository.countAttendanceByEventIdAndStatus(List.of(testEvent.getId()));
+
+        assertThat(attendances).hasSize(3).allSatisfy(attendance -> assertThat(attendance.getUser().getName()).isNotNull());
+        assertThat(counts).hasSize(2).allSatisfy(row -> {
+            assertThat(row[0]).isEqualTo(testEvent.getId());
+            assertThat(row[2]).isEqualTo(1L);
+        });
+    }
 }
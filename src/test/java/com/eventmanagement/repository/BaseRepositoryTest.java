@@ -6,6 +6,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public abstract class BaseRepositoryTest {
 
     @Autowired
@@ -14,6 +16,6 @@ public abstract class BaseRepositoryTest {
     @BeforeEach
     void setUpBaseTest() {
         Session session = entityManager.getEntityManager().unwrap(Session.class);
-        session.enableFilter("softDeleteFilter").setParameter("isDeleted", false);
+        assertThat(session.getEnabledFilter("softDeleteFilter")).isNotNull();
     }
 }
@@ -3,14 +3,17 @@ package com.eventmanagement.repository;
 
 import com.eventmanagement.config.AuditorAwareConfig;
 import com.eventmanagement.config.TestJpaAuditingConfig;
+import com.eventmanagement.dto.response.EventFieldsResponse;
 import com.eventmanagement.dto.response.EventWithAttendeeCountResponse;
 import com.eventmanagement.entity.Attendance;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.EventField;
 import com.eventmanagement.enums.Role;
 import com.eventmanagement.enums.Visibility;
-import org.hibernate.Session;
+import com.eventmanagement.service.FilterService;
+import com.eventmanagement.util.GeoUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -19,9 +22,13 @@ import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,7 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @ActiveProfiles("test")
 @TestMethodOrder(OrderAnnotation.class)
-@Import({TestJpaAuditingConfig.class, AuditorAwareConfig.class})
+@Import({TestJpaAuditingConfig.class, AuditorAwareConfig.class, FilterService.class})
 class EventRepositoryTest extends BaseRepositoryTest {
 
     @Autowired
@@ -41,6 +48,9 @@ class EventRepositoryTest extends BaseRepositoryTest {
     @Autowired
     private AttendanceRepository attendanceRepository;
 
+    @Autowired
+    private FilterService filterService;
+
     private User testUser;
 
     @BeforeEach
@@ -65,9 +75,6 @@ class EventRepositoryTest extends BaseRepositoryTest {
     @Test
     @Order(9)
     void whenFindEventWithAttendeeCount_thenReturnEventWithCount() {
-        Session session = entityManager.getEntityManager().unwrap(Session.class);
-        session.enableFilter("softDeleteFilter").setParameter("isDeleted", false);
-
         LocalDateTime futureStart = LocalDateTime.now().plusDays(1);
         Event testEvent = new Event();
         testEvent.setTitle("Test Event");
@@ -93,4 +100,155 @@ class EventRepositoryTest extends BaseRepositoryTest {
         assertThat(eventWithCount.getEvent().getTitle()).isEqualTo("Test Event");
         assertThat(eventWithCount.getAttendeeCount()).isEqualTo(1L);
     }
+
+    @Test
+    @Order(10)
+    void whenEventSoftDeleted_thenHiddenUnlessFilterOptedOut() {
+        LocalDateTime futureStart = LocalDateTime.now().plusDays(1);
+        Event activeEvent = new Event("Active Event", "Description", testUser, futureStart,
+                futureStart.plusHours(2), "Test Location", Visibility.PUBLIC);
+        Event deletedEvent = new Event("Deleted Event", "Description", testUser, futureStart,
+                futureStart.plusHours(2), "Test Location", Visibility.PUBLIC);
+        deletedEvent.softDelete();
+        entityManager.persist(activeEvent);
+        entityManager.persist(deletedEvent);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Event> visible = eventRepository.findAll();
+        List<Event> all = filterService.withoutSoftDeleteFilter(() -> eventRepository.findAll());
+
+        assertThat(visible).extracting(Event::getTitle).containsExactly("Active Event");
+        assertThat(all).extracting(Event::getTitle).containsExactlyInAnyOrder("Active Event", "Deleted Event");
+        assertThat(eventRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @Order(11)
+    void whenFindAllIncludingDeleted_thenSoftDeletedEventsReturned() {
+        LocalDateTime futureStart = LocalDateTime.now().plusDays(1);
+        Event deletedEvent = new Event("Deleted Event", "Description", testUser, futureStart,
+                futureStart.plusHours(2), "Test Location", Visibility.PUBLIC);
+        deletedEvent.softDelete();
+        entityManager.persist(deletedEvent);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(eventRepository.findAll()).isEmpty();
+        assertThat(eventRepository.findAllIncludingDeleted()).singleElement().satisfies(event -> {
+            assertThat(event.getTitle()).isEqualTo("Deleted Event");
+            assertThat(event.getDeletedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @Order(12)
+    void whenFindingByDateRange_thenWithinAndOverlapSemanticsDiffer() {
+        LocalDateTime windowStart = LocalDateTime.of(2030, 3, 10, 0, 0);
+        LocalDateTime windowEnd = windowStart.plusDays(1);
+        entityManager.persist(new Event("Inside", "Description", testUser, windowStart.plusHours(9),
+                windowStart.plusHours(11), "Test Location", Visibility.PUBLIC));
+        entityManager.persist(new Event("Conference", "Description", testUser, windowStart.minusDays(2),
+                windowStart.plusHours(12), "Test Location", Visibility.PUBLIC));
+        entityManager.persist(new Event("Ended At Window Start", "Description", testUser, windowStart.minusHours(2),
+                windowStart, "Test Location", Visibility.PUBLIC));
+        entityManager.persist(new Event("Later", "Description", testUser, windowEnd.plusHours(1),
+                windowEnd.plusHours(3), "Test Location", Visibility.PUBLIC));
+        entityManager.flush();
+        entityManager.clear();
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("startTime"));
+
+        assertThat(eventRepository.findByDateRange(windowStart, windowEnd, pageable).getContent())
+                .extracting(Event::getTitle).containsExactly("Inside");
+        assertThat(eventRepository.findByDateRangeOverlapping(windowStart, windowEnd, pageable).getContent())
+                .extracting(Event::getTitle).containsExactly("Conference", "Inside");
+        assertThat(eventRepository.findEventsWithFiltersOverlapping(null, null, windowStart, null,
+                Visibility.PUBLIC, null, pageable).getContent())
+                .extracting(Event::getTitle).containsExactly("Conference", "Inside", "Later");
+        assertThat(eventRepository.findEventsWithFilters(null, null, null, null, null, null, pageable)
+                .getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(13)
+    void whenFindingLocationsInCells_thenOnlyEventsInCoveredCellsAndBoxReturned() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Event colombo = new Event("Colombo", "Description", testUser, start, start.plusHours(2),
+                "Colombo", Visibility.PUBLIC);
+        colombo.setLatitude(6.9271);
+        colombo.setLongitude(79.8612);
+        Event dehiwala = new Event("Dehiwala", "Description", testUser, start, start.plusHours(2),
+                "Dehiwala", Visibility.PRIVATE);
+        dehiwala.setLatitude(6.8511);
+        dehiwala.setLongitude(79.8653);
+        Event kandy = new Event("Kandy", "Description", testUser, start, start.plusHours(2),
+                "Kandy", Visibility.PUBLIC);
+        kandy.setLatitude(7.2906);
+        kandy.setLongitude(80.6337);
+        Event online = new Event("Online", "Description", testUser, start, start.plusHours(2),
+                "Online", Visibility.PUBLIC);
+        entityManager.persist(colombo);
+        entityManager.persist(dehiwala);
+        entityManager.persist(kandy);
+        entityManager.persist(online);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> cells = GeoUtils.coveringCells(6.9271, 79.8612, 15, 16);
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(6.9271, 79.8612, 15);
+
+        assertThat(eventRepository.findLocationsInCells(cells, box, null, null))
+                .extracting(EventRepositoryCustom.EventLocation::id)
+                .containsExactlyInAnyOrder(colombo.getId(), dehiwala.getId());
+        assertThat(eventRepository.findLocationsInCells(cells, box, LocalDateTime.now(), Visibility.PUBLIC))
+                .extracting(EventRepositoryCustom.EventLocation::id)
+                .containsExactly(colombo.getId());
+        assertThat(entityManager.find(Event.class, colombo.getId()).getGeohash())
+                .isEqualTo(GeoUtils.geohash(6.9271, 79.8612, GeoUtils.GEOHASH_PRECISION));
+    }
+
+    @Test
+    @Order(14)
+    void whenFindingEventFields_thenOnlySelectedFieldsOfMatchingEventsReturned() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        User attendee = new User();
+        attendee.setName("Attendee");
+        attendee.setEmail("attendee@example.com");
+        attendee.setPassword("password123");
+        attendee.setRole(Role.USER);
+        attendee = userRepository.save(attendee);
+        Event later = entityManager.persist(new Event("Later", "Long description", testUser, start.plusDays(1),
+                start.plusDays(1).plusHours(2), "Colombo", Visibility.PUBLIC));
+        Event sooner = entityManager.persist(new Event("Sooner", "Long description", testUser, start,
+                start.plusHours(2), "Kandy", Visibility.PUBLIC));
+        entityManager.persist(new Event("Private", "Long description", testUser, start,
+                start.plusHours(2), "Colombo", Visibility.PRIVATE));
+        entityManager.persist(new Event("Past", "Long description", testUser, start.minusDays(3),
+                start.minusDays(3).plusHours(2), "Colombo", Visibility.PUBLIC));
+        Attendance attendance = new Attendance(later, attendee, AttendanceStatus.GOING);
+        attendance.setRespondedAt(LocalDateTime.now());
+        entityManager.persist(attendance);
+        entityManager.flush();
+        entityManager.clear();
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("startTime"));
+
+        List<EventFieldsResponse> upcoming = eventRepository.findEventFields(
+                EventRepositoryCustom.EventFilter.upcoming(LocalDateTime.now()),
+                EnumSet.of(EventField.ID, EventField.TITLE, EventField.START_TIME), pageable).getContent();
+
+        assertThat(upcoming).extracting(event -> event.get(EventField.ID)).containsExactly(sooner.getId(), later.getId());
+        assertThat(upcoming.get(0).getFields()).containsOnlyKeys("id", "title", "startTime");
+        assertThat(upcoming.get(0).get(EventField.START_TIME)).isEqualTo(sooner.getStartTime());
+
+        EventFieldsResponse hosted = eventRepository.findEventFields(
+                new EventRepositoryCustom.EventFilter(null, "kandy", null, null, false, null, testUser.getId(), null, null),
+                EnumSet.of(EventField.ID, EventField.HOST_NAME), pageable).getContent().get(0);
+        assertThat(hosted.get(EventField.ID)).isEqualTo(sooner.getId());
+        assertThat(hosted.get(EventField.HOST_NAME)).isEqualTo("Host User");
+
+        assertThat(eventRepository.findEventFields(EventRepositoryCustom.EventFilter.attendedBy(attendee.getId()),
+                EnumSet.of(EventField.ID), PageRequest.of(0, 1)).getTotalElements()).isEqualTo(1);
+        assertThat(eventRepository.findEventFields(EventRepositoryCustom.EventFilter.hostedBy(testUser.getId()),
+                EnumSet.of(EventField.ID), PageRequest.of(0, 1)).getTotalElements()).isEqualTo(4);
+    }
 }
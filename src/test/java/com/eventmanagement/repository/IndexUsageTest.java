@@ -0,0 +1,191 @@
+// src/test/java/com/eventmanagement/repository/IndexUsageTest.java
+package com.eventmanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class IndexUsageTest {
+
+    private static final String HOST_ID = "SELECT md5('user42')::uuid";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, name, email, password, role)
+                    SELECT md5('user' || g)::uuid, 'User ' || g, 'user' || g || '@example.com', 'x', 'USER'
+                    FROM generate_series(1, 1000) g
+                    """);
+            statement.execute("""
+                    INSERT INTO events (id, title, host_id, start_time, end_time, location, visibility,
+                                        created_at, deleted_at)
+                    SELECT md5('event' || g)::uuid,
+                           'Event ' || g,
+                           md5('user' || (g % 1000 + 1))::uuid,
+                           LOCALTIMESTAMP + ((g % 730) - 365) * INTERVAL '1 day',
+                           LOCALTIMESTAMP + ((g % 730) - 365) * INTERVAL '1 day' + INTERVAL '2 hours',
+                           'Location ' || (g % 200),
+                           CASE WHEN g % 5 = 0 THEN 'PRIVATE' ELSE 'PUBLIC' END,
+                           LOCALTIMESTAMP - (g % 1000) * INTERVAL '1 hour',
+                           CASE WHEN g % 20 = 0 THEN LOCALTIMESTAMP END
+                    FROM generate_series(1, 50000) g
+                    """);
+            statement.execute("""
+                    INSERT INTO attendance (event_id, user_id, event_start_time, status, responded_at, deleted_at)
+                    SELECT e.id,
+                           md5('user' || ((g * 7) % 1000 + 1))::uuid,
+                           e.start_time,
+                           'GOING',
+                           LOCALTIMESTAMP,
+                           CASE WHEN g % 10 = 0 THEN LOCALTIMESTAMP END
+                    FROM generate_series(1, 50000) g
+                    JOIN events e ON e.id = md5('event' || g)::uuid
+                    ON CONFLICT DO NOTHING
+                    """);
+            // Seeded rows outside the initial window sit in the default partitions until
+            // their monthly partitions are created
+            statement.execute("""
+                    SELECT create_monthly_partition(m::date)
+                    FROM generate_series(date_trunc('month', LOCALTIMESTAMP) - INTERVAL '13 months',
+                                         date_trunc('month', LOCALTIMESTAMP) + INTERVAL '13 months',
+                                         INTERVAL '1 month') m
+                    """);
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @Test
+    void whenFindingUpcomingPublicEvents_thenPartialIndexIsUsed() throws SQLException {
+        List<String> plan = explain("""
+                SELECT e.* FROM events e
+                WHERE e.start_time > ? AND e.visibility = 'PUBLIC' AND e.deleted_at IS NULL
+                ORDER BY e.start_time ASC
+                LIMIT 10
+                """, Timestamp.valueOf(LocalDateTime.now()));
+
+        String[] indexes = indexAndPartitions("idx_events_upcoming_public");
+        assertThat(plan).anySatisfy(line -> assertThat(line).containsAnyOf(indexes));
+    }
+
+    @Test
+    void whenFindingHostEvents_thenHostCreatedIndexIsUsed() throws SQLException {
+        List<String> plan = explain("""
+                SELECT e.* FROM events e
+                WHERE e.host_id = (%s) AND e.deleted_at IS NULL
+                ORDER BY e.created_at DESC
+                LIMIT 10
+                """.formatted(HOST_ID));
+
+        String[] indexes = indexAndPartitions("idx_events_host_created");
+        assertThat(plan).anySatisfy(line -> assertThat(line).containsAnyOf(indexes));
+    }
+
+    @Test
+    void whenFindingUserAttendance_thenUserEventIndexIsUsed() throws SQLException {
+        List<String> plan = explain("""
+                SELECT a.* FROM attendance a
+                WHERE a.user_id = (%s) AND a.deleted_at IS NULL
+                """.formatted(HOST_ID));
+
+        String[] indexes = indexAndPartitions("idx_attendance_user_event");
+        assertThat(plan).anySatisfy(line -> assertThat(line).containsAnyOf(indexes));
+    }
+
+    @Test
+    void whenFindingOverlappingEvents_thenPeriodIndexIsUsed() throws SQLException {
+        // Mirrors the SQL rendered for period_overlaps on PostgreSQL
+        Timestamp from = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp to = Timestamp.valueOf(LocalDateTime.now().plusDays(7));
+        List<String> plan = explain("""
+                SELECT e.* FROM events e
+                WHERE tsrange(e.start_time, e.end_time, '[)') && tsrange(?, ?, '[]')
+                  AND e.start_time <= ? AND e.deleted_at IS NULL
+                """, from, to, to);
+
+        String[] indexes = indexAndPartitions("idx_events_period");
+        assertThat(plan).anySatisfy(line -> assertThat(line).containsAnyOf(indexes));
+    }
+
+    @Test
+    void whenMigrated_thenStandaloneSoftDeleteIndexesAreGone() throws SQLException {
+        List<String> indexes = new ArrayList<>();
+        try (Connection connection = connect();
+             ResultSet rs = connection.createStatement().executeQuery(
+                     "SELECT indexname FROM pg_indexes WHERE schemaname = 'public'")) {
+            while (rs.next()) {
+                indexes.add(rs.getString(1));
+            }
+        }
+
+        assertThat(indexes)
+                .doesNotContain("idx_events_deleted_at", "idx_events_start_time", "idx_events_visibility",
+                        "idx_events_host_id", "idx_attendance_deleted_at", "idx_attendance_user_id",
+                        "idx_users_deleted_at")
+                .contains("idx_events_upcoming_public", "idx_events_host_created", "idx_attendance_user_event",
+                        "idx_events_period", "idx_events_geohash");
+    }
+
+    private static List<String> explain(String sql, Object... params) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.add(rs.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+
+    // Partitioned indexes are planned through their per-partition children
+    private static String[] indexAndPartitions(String indexName) throws SQLException {
+        List<String> names = new ArrayList<>(List.of(indexName));
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                             "WHERE i.inhparent = ?::regclass")) {
+            statement.setString(1, indexName);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                }
+            }
+        }
+        return names.toArray(String[]::new);
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,118 @@
+// src/test/java/com/eventmanagement/repository/PartitioningTest.java
+package com.eventmanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PartitioningTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-0000000000a1";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        execute("INSERT INTO users (id, name, email, password) VALUES ('" + USER_ID + "', 'Host', 'host@example.com', 'x')");
+    }
+
+    @Test
+    void whenEventBeyondWindow_thenParkedInDefaultUntilPartitionCreated() throws SQLException {
+        String eventId = "00000000-0000-0000-0000-0000000000e1";
+        insertEventWithAttendance(eventId, "LOCALTIMESTAMP + INTERVAL '2 years'");
+
+        assertThat(partitionOf("events", "id = '" + eventId + "'")).isEqualTo("events_default");
+
+        execute("SELECT create_monthly_partition((LOCALTIMESTAMP + INTERVAL '2 years')::date)");
+
+        assertThat(partitionOf("events", "id = '" + eventId + "'")).startsWith("events_20");
+        assertThat(partitionOf("attendance", "event_id = '" + eventId + "'")).startsWith("attendance_20");
+    }
+
+    @Test
+    void whenEventStartTimeMoves_thenAttendanceFollowsIntoNewPartition() throws SQLException {
+        String eventId = "00000000-0000-0000-0000-0000000000e2";
+        execute("SELECT create_future_partitions(3)");
+        insertEventWithAttendance(eventId, "LOCALTIMESTAMP + INTERVAL '1 day'");
+
+        execute("UPDATE events SET start_time = start_time + INTERVAL '2 months', end_time = end_time + INTERVAL '2 months' " +
+                "WHERE id = '" + eventId + "'");
+
+        String eventPartition = partitionOf("events", "id = '" + eventId + "'");
+        String attendancePartition = partitionOf("attendance", "event_id = '" + eventId + "'");
+        assertThat(attendancePartition).isEqualTo(eventPartition.replace("events_", "attendance_"));
+        assertThat(queryString("SELECT (a.event_start_time = e.start_time)::text FROM attendance a " +
+                "JOIN events e ON e.id = a.event_id WHERE a.event_id = '" + eventId + "'")).isEqualTo("true");
+    }
+
+    @Test
+    void whenPartitionOlderThanRetention_thenMovedToArchiveSchema() throws SQLException {
+        String eventId = "00000000-0000-0000-0000-0000000000e3";
+        execute("SELECT create_monthly_partition((LOCALTIMESTAMP - INTERVAL '3 years')::date)");
+        insertEventWithAttendance(eventId, "LOCALTIMESTAMP - INTERVAL '3 years'");
+
+        execute("SELECT archive_old_partitions(24)");
+
+        assertThat(queryString("SELECT count(*)::text FROM events WHERE id = '" + eventId + "'")).isEqualTo("0");
+        assertThat(queryString("SELECT count(*)::text FROM pg_tables WHERE schemaname = 'archive' " +
+                "AND tablename = to_char(LOCALTIMESTAMP - INTERVAL '3 years', '\"events_\"YYYY_MM')")).isEqualTo("1");
+        assertThat(queryString("SELECT count(*)::text FROM archive." + archived("attendance") +
+                " WHERE event_id = '" + eventId + "'")).isEqualTo("1");
+        // The archived month keeps no foreign key into the live events table
+        assertThat(queryString("SELECT count(*)::text FROM pg_constraint WHERE contype = 'f' " +
+                "AND conrelid = 'archive." + archived("attendance") + "'::regclass AND confrelid = 'events'::regclass"))
+                .isEqualTo("0");
+    }
+
+    private static String archived(String table) throws SQLException {
+        return queryString("SELECT to_char(LOCALTIMESTAMP - INTERVAL '3 years', '\"" + table + "_\"YYYY_MM')");
+    }
+
+    private static void insertEventWithAttendance(String eventId, String startTime) throws SQLException {
+        execute("INSERT INTO events (id, title, host_id, start_time, end_time, location) VALUES ('" + eventId +
+                "', 'Event', '" + USER_ID + "', " + startTime + ", " + startTime + " + INTERVAL '2 hours', 'Colombo')");
+        execute("INSERT INTO attendance (event_id, user_id, event_start_time) " +
+                "SELECT id, '" + USER_ID + "', start_time FROM events WHERE id = '" + eventId + "'");
+    }
+
+    private static String partitionOf(String table, String condition) throws SQLException {
+        return queryString("SELECT tableoid::regclass::text FROM " + table + " WHERE " + condition);
+    }
+
+    private static String queryString(String sql) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,133 @@
+// src/test/java/com/eventmanagement/repository/PeriodQueryPostgresTest.java
+package com.eventmanagement.repository;
+
+import com.eventmanagement.config.AuditorAwareConfig;
+import com.eventmanagement.config.TestJpaAuditingConfig;
+import com.eventmanagement.dto.response.EventFieldsResponse;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.enums.EventField;
+import com.eventmanagement.enums.Role;
+import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.repository.EventRepositoryCustom.EventFilter;
+import com.eventmanagement.service.FilterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The period predicates render differently on PostgreSQL, so they are run against it too
+@DataJpaTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestJpaAuditingConfig.class, AuditorAwareConfig.class, FilterService.class})
+class PeriodQueryPostgresTest extends BaseRepositoryTest {
+
+    private static final Pageable BY_START = PageRequest.of(0, 10, Sort.by("startTime"));
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.sql.init.mode", () -> "never");
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User host = new User();
+        host.setName("Host User");
+        host.setEmail("host@example.com");
+        host.setPassword("password123");
+        host.setRole(Role.USER);
+        host = userRepository.save(host);
+
+        base = LocalDateTime.now().plusDays(1).withNano(0);
+        // early: base-2h..base, middle: base+1h..base+3h, late: base+4h..base+6h
+        eventRepository.save(new Event("early", "d", host, base.minusHours(2), base, "Hall", Visibility.PUBLIC));
+        eventRepository.save(new Event("middle", "d", host, base.plusHours(1), base.plusHours(3), "Hall", Visibility.PUBLIC));
+        eventRepository.save(new Event("late", "d", host, base.plusHours(4), base.plusHours(6), "Hall", Visibility.PUBLIC));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void whenWindowHasBothBounds_thenContainedAndOverlappingEventsFound() {
+        LocalDateTime from = base.minusHours(1);
+        LocalDateTime to = base.plusHours(5);
+
+        assertThat(titles(eventRepository.findByDateRange(from, to, BY_START))).containsExactly("middle");
+        assertThat(titles(eventRepository.findByDateRangeOverlapping(from, to, BY_START)))
+                .containsExactly("early", "middle", "late");
+        assertThat(titles(eventRepository.findEventsWithFilters(null, null, from, to, null, null, BY_START)))
+                .containsExactly("middle");
+        assertThat(fieldTitles(new EventFilter(null, null, from, to, false, null, null, null, null))).containsExactly("middle");
+        assertThat(fieldTitles(new EventFilter(null, null, from, to, true, null, null, null, null)))
+                .containsExactly("early", "middle", "late");
+    }
+
+    @Test
+    void whenWindowHasOneBound_thenOtherSideIsOpen() {
+        LocalDateTime from = base.plusMinutes(30);
+        LocalDateTime to = base.plusHours(3);
+
+        assertThat(titles(eventRepository.findByDateRange(from, null, BY_START))).containsExactly("middle", "late");
+        assertThat(titles(eventRepository.findByDateRange(null, to, BY_START))).containsExactly("early", "middle");
+        assertThat(titles(eventRepository.findByDateRangeOverlapping(base.minusMinutes(30), null, BY_START)))
+                .containsExactly("early", "middle", "late");
+        assertThat(titles(eventRepository.findEventsWithFiltersOverlapping(null, null, null, base.plusHours(2), null, null, BY_START)))
+                .containsExactly("early", "middle");
+        assertThat(fieldTitles(new EventFilter(null, null, from, null, false, null, null, null, null)))
+                .containsExactly("middle", "late");
+        assertThat(fieldTitles(new EventFilter(null, null, null, to, true, null, null, null, null)))
+                .containsExactly("early", "middle");
+        assertThat(titles(eventRepository.findEventsWithFilters(null, null, null, null, null, null, BY_START)))
+                .containsExactly("early", "middle", "late");
+    }
+
+    private static List<String> titles(Page<Event> events) {
+        return events.map(Event::getTitle).getContent();
+    }
+
+    private List<String> fieldTitles(EventFilter filter) {
+        Page<EventFieldsResponse> page = eventRepository.findEventFields(filter, EnumSet.of(EventField.ID, EventField.TITLE), BY_START);
+        return page.map(event -> (String) event.get(EventField.TITLE)).getContent();
+    }
+}
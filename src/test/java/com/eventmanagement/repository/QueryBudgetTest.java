@@ -0,0 +1,136 @@
+// src/test/java/com/eventmanagement/repository/QueryBudgetTest.java
+package com.eventmanagement.repository;
+
+import com.eventmanagement.config.AuditorAwareConfig;
+import com.eventmanagement.config.QueryBudgetConfig;
+import com.eventmanagement.config.TestJpaAuditingConfig;
+import com.eventmanagement.dto.response.EventFieldsResponse;
+import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.entity.Attendance;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.EventField;
+import com.eventmanagement.enums.Role;
+import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.mapper.EventMapper;
+import com.eventmanagement.mapper.EventMapperImpl;
+import com.eventmanagement.monitoring.QueryStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestJpaAuditingConfig.class, AuditorAwareConfig.class, QueryBudgetConfig.class})
+class QueryBudgetTest extends BaseRepositoryTest {
+
+    private static final int EVENT_COUNT = 5;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private QueryBudgetConfig queryBudgetConfig;
+
+    private final EventMapper eventMapper = new EventMapperImpl();
+
+    private final List<User> users = new ArrayList<>();
+    private Event attendedEvent;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            User user = new User();
+            user.setName("User " + i);
+            user.setEmail("budget" + i + "@example.com");
+            user.setPassword("password123");
+            user.setRole(Role.USER);
+            users.add(entityManager.persist(user));
+
+            Event event = new Event("Event " + i, "Description", user, start.plusHours(i),
+                    start.plusHours(i + 2), "Colombo", Visibility.PUBLIC);
+            event = entityManager.persist(event);
+            if (i == 0) {
+                attendedEvent = event;
+            }
+        }
+        for (User user : users) {
+            Attendance attendance = new Attendance(attendedEvent, user, AttendanceStatus.GOING);
+            attendance.setRespondedAt(LocalDateTime.now());
+            entityManager.persist(attendance);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void whenListingEventsWithHosts_thenHostsAreNotLoadedPerRow() {
+        List<EventResponse> responses = new ArrayList<>();
+
+        QueryStats stats = QueryStats.capture(() -> responses.addAll(eventMapper.toResponseList(
+                eventRepository.findEventsWithFilters(null, null, null, null, Visibility.PUBLIC, null,
+                        PageRequest.of(0, 2)).getContent())));
+
+        assertThat(responses).hasSize(2).allSatisfy(response -> assertThat(response.getHostName()).isNotNull());
+        // One select plus one count query, regardless of page size
+        assertThat(stats.getStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(stats.getStatementCount()).isLessThanOrEqualTo(queryBudgetConfig.getBudget("getAllEvents"));
+        assertThat(stats.getEntitiesLoaded()).isEqualTo(4);
+    }
+
+    @Test
+    void whenListingSelectedFields_thenNoEntitiesAreLoaded() {
+        List<EventFieldsResponse> responses = new ArrayList<>();
+
+        QueryStats stats = QueryStats.capture(() -> responses.addAll(eventRepository.findEventFields(
+                new EventRepositoryCustom.EventFilter(null, null, null, null, false, Visibility.PUBLIC, null, null, null),
+                EnumSet.of(EventField.ID, EventField.TITLE, EventField.HOST_NAME), PageRequest.of(0, 2)).getContent()));
+
+        assertThat(responses).hasSize(2).allSatisfy(response -> assertThat(response.get(EventField.HOST_NAME)).isNotNull());
+        assertThat(stats.getStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(stats.getEntitiesLoaded()).isZero();
+    }
+
+    @Test
+    void whenLoadingAttendees_thenUsersAreFetchedWithAttendances() {
+        List<String> names = new ArrayList<>();
+
+        QueryStats stats = QueryStats.capture(() -> attendanceRepository.findByEventId(attendedEvent.getId())
+                .forEach(attendance -> names.add(attendance.getUser().getName())));
+
+        assertThat(names).hasSize(EVENT_COUNT);
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenCapturing_thenJdbcTimeIsRecorded() {
+        QueryStats stats = QueryStats.capture(() -> eventRepository.findAll());
+
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+        assertThat(stats.getJdbcNanos()).isPositive();
+        assertThat(stats.getEntitiesLoaded()).isEqualTo(EVENT_COUNT);
+    }
+
+    @Test
+    void whenNotCapturing_thenNothingIsRecorded() {
+        eventRepository.findAll();
+
+        assertThat(QueryStats.current()).isNull();
+    }
+}
@@ -3,29 +3,47 @@ package com.eventmanagement.service;
 
 import com.eventmanagement.dto.request.CreateEventRequest;
 import com.eventmanagement.dto.request.UpdateEventRequest;
+import com.eventmanagement.dto.response.EventBatchResponse;
+import com.eventmanagement.dto.response.EventDetailResponse;
+import com.eventmanagement.dto.response.EventFieldsResponse;
 import com.eventmanagement.dto.response.EventResponse;
+import com.eventmanagement.dto.response.PagedResponse;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
+import com.eventmanagement.enums.AttendanceStatus;
+import com.eventmanagement.enums.DomainEventType;
 import com.eventmanagement.enums.Role;
 import com.eventmanagement.enums.Visibility;
+import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.exception.ResourceNotFoundException;
 import com.eventmanagement.mapper.EventMapper;
+import com.eventmanagement.outbox.OutboxPublisher;
+import com.eventmanagement.repository.AttendanceRepository;
 import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.EventRepositoryCustom;
 import com.eventmanagement.service.impl.EventServiceImpl;
+import com.eventmanagement.util.GeoUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +59,10 @@ class EventServiceTest {
     private UserService userService;
 
     @Mock
-    private FilterService filterService;
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
 
     @InjectMocks
     private EventServiceImpl eventService;
@@ -113,7 +134,145 @@ class EventServiceTest {
         verify(userService).getEntityById(userId);
         verify(eventRepository).save(any(Event.class));
         verify(eventMapper).toResponse(testEvent);
-        verify(filterService).enableSoftDeleteFilter();
+        verify(outboxPublisher).publish(DomainEventType.EVENT_CREATED, eventId, eventResponse);
+    }
+
+    @Test
+    void whenCreateEvent_withLatitudeOnly_thenThrowBadRequestException() {
+        createRequest.setLatitude(6.9271);
+
+        assertThatThrownBy(() -> eventService.createEvent(createRequest, userId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Latitude and longitude must be provided together");
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void whenGetNearbyEvents_thenResultsWithinRadiusOrderedByDistance() {
+        UUID farId = UUID.randomUUID();
+        UUID outsideId = UUID.randomUUID();
+        Event far = new Event();
+        far.setId(farId);
+        far.setHost(testUser);
+        when(eventRepository.findLocationsInCells(any(), any(), any(), eq(Visibility.PUBLIC))).thenReturn(List.of(
+                new EventRepositoryCustom.EventLocation(farId, 6.9271, 79.90),
+                new EventRepositoryCustom.EventLocation(outsideId, 7.2906, 80.6337),
+                new EventRepositoryCustom.EventLocation(eventId, 6.9271, 79.8612)));
+        when(eventRepository.findAllWithHostByIdIn(List.of(eventId, farId))).thenReturn(List.of(far, testEvent));
+        when(eventMapper.toResponse(testEvent)).thenReturn(eventResponse);
+        when(eventMapper.toResponse(far)).thenReturn(new EventResponse());
+
+        PagedResponse<EventResponse> result = eventService.getNearbyEvents(6.9271, 79.8612, 10, true,
+                Visibility.PUBLIC, PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(EventResponse::getDistanceKm)
+                .containsExactly(0.0, GeoUtils.distanceKm(6.9271, 79.8612, 6.9271, 79.90));
+        assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Event");
+    }
+
+    @Test
+    void whenGetNearbyEvents_withRadiusTooLarge_thenThrowBadRequestException() {
+        assertThatThrownBy(() -> eventService.getNearbyEvents(6.9271, 79.8612, 5000, true, null,
+                PageRequest.of(0, 10)))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void whenGetEventFields_withUnknownFieldOrSort_thenThrowBadRequestException() {
+        EventRepositoryCustom.EventFilter filter = EventRepositoryCustom.EventFilter.hostedBy(userId);
+
+        assertThatThrownBy(() -> eventService.getEventFields(filter, "title,password", PageRequest.of(0, 10)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> eventService.getEventFields(filter, "title",
+                PageRequest.of(0, 10, Sort.by("host.password"))))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void whenSelectEventFields_thenOnlyIdAndRequestedFieldsKept() {
+        PagedResponse<EventFieldsResponse> result = eventService.selectEventFields(
+                new PagedResponse<>(List.of(eventResponse), 1, 10, 11, 2), " startTime , TITLE");
+
+        assertThat(result.getContent()).singleElement()
+                .satisfies(event -> assertThat(event.getFields()).containsOnlyKeys("id", "title", "startTime"));
+        assertThat(result.getTotalElements()).isEqualTo(11);
+    }
+
+    @Test
+    void whenGetEventDetailsBatch_thenCachedServedMissesLoadedTogetherAndOrderKept() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("events");
+        ReflectionTestUtils.setField(eventService, "cacheManager", cacheManager);
+        UUID cachedId = UUID.randomUUID();
+        EventDetailResponse cached = new EventDetailResponse();
+        cached.setId(cachedId);
+        cached.setAttendeeCount(0L);
+        cacheManager.getCache("events").put(cachedId + "_null", cached);
+        User otherHost = new User();
+        otherHost.setId(UUID.randomUUID());
+        Event privateEvent = new Event("Private", "Description", otherHost, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), "Somewhere", Visibility.PRIVATE);
+        privateEvent.setId(UUID.randomUUID());
+        UUID unknownId = UUID.randomUUID();
+        List<UUID> misses = List.of(unknownId, eventId, privateEvent.getId());
+        when(eventRepository.findAllWithHostByIdIn(misses)).thenReturn(List.of(testEvent, privateEvent));
+        when(attendanceRepository.findByEventIdIn(misses)).thenReturn(List.of());
+        when(attendanceRepository.countAttendanceByEventIdAndStatus(misses))
+                .thenReturn(List.<Object[]>of(new Object[] {eventId, AttendanceStatus.GOING, 3L}));
+        when(eventMapper.toDetailResponse(testEvent)).thenAnswer(invocation -> {
+            EventDetailResponse detail = new EventDetailResponse();
+            detail.setId(eventId);
+            return detail;
+        });
+
+        EventBatchResponse response = eventService.getEventDetailsBatch(
+                List.of(unknownId, eventId, privateEvent.getId(), cachedId, eventId), null);
+
+        assertThat(response.getEvents()).extracting(EventDetailResponse::getId).containsExactly(eventId, cachedId);
+        assertThat(response.getEvents().get(0).getAttendeeCount()).isEqualTo(3L);
+        assertThat(response.getEvents().get(1)).isSameAs(cached);
+        assertThat(response.getNotFound()).containsExactly(unknownId);
+        assertThat(response.getForbidden()).containsExactly(privateEvent.getId());
+        assertThat(cacheManager.getCache("events").get(eventId + "_null")).isNotNull();
+        assertThat(cacheManager.getCache("events").get(privateEvent.getId() + "_null")).isNull();
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void whenGetEventDetailsBatch_withStaleCachedCopy_thenReloadedWithMisses() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("events");
+        ReflectionTestUtils.setField(eventService, "cacheManager", cacheManager);
+        EventDetailResponse stale = new EventDetailResponse();
+        stale.setId(eventId);
+        stale.setAttendeeCount(0L);
+        cacheManager.getCache("events").put(eventId + "_null", stale);
+        UUID unknownId = UUID.randomUUID();
+        // Someone has responded since the copy was cached
+        LocalDateTime respondedAt = LocalDateTime.now();
+        when(attendanceRepository.findAttendanceVersions(Set.of(eventId)))
+                .thenReturn(List.<Object[]>of(new Object[] {eventId, 1L, respondedAt, respondedAt}));
+        List<UUID> reloaded = List.of(unknownId, eventId);
+        when(eventRepository.findAllWithHostByIdIn(reloaded)).thenReturn(List.of(testEvent));
+        when(attendanceRepository.findByEventIdIn(reloaded)).thenReturn(List.of());
+        when(attendanceRepository.countAttendanceByEventIdAndStatus(reloaded))
+                .thenReturn(List.<Object[]>of(new Object[] {eventId, AttendanceStatus.GOING, 1L}));
+        when(eventMapper.toDetailResponse(testEvent)).thenAnswer(invocation -> {
+            EventDetailResponse detail = new EventDetailResponse();
+            detail.setId(eventId);
+            return detail;
+        });
+
+        EventBatchResponse response = eventService.getEventDetailsBatch(List.of(eventId, unknownId), null);
+
+        assertThat(response.getEvents()).singleElement().satisfies(detail -> {
+            assertThat(detail).isNotSameAs(stale);
+            assertThat(detail.getAttendeeCount()).isEqualTo(1L);
+        });
+        assertThat(response.getNotFound()).containsExactly(unknownId);
+        assertThat(cacheManager.getCache("events").get(eventId + "_null").get()).isNotSameAs(stale);
     }
 
     @Test
@@ -127,7 +286,6 @@ class EventServiceTest {
         assertThat(response).isNotNull();
         verify(eventMapper).updateEntityFromRequest(updateRequest, testEvent);
         verify(eventRepository).save(testEvent);
-        verify(filterService).enableSoftDeleteFilter();
     }
 
     @Test
@@ -139,7 +297,6 @@ class EventServiceTest {
 
         verify(eventRepository).findById(eventId);
         verify(eventRepository, never()).save(any(Event.class));
-        verify(filterService).enableSoftDeleteFilter();
     }
 
     @Test
@@ -150,7 +307,7 @@ class EventServiceTest {
 
         verify(eventRepository).findById(eventId);
         verify(eventRepository).save(testEvent);
-        verify(filterService).enableSoftDeleteFilter();
+        verify(outboxPublisher).publish(eq(DomainEventType.EVENT_DELETED), eq(eventId), any());
     }
 
     @Test
@@ -162,6 +319,5 @@ class EventServiceTest {
 
         verify(eventRepository).findById(eventId);
         verify(eventRepository, never()).delete(any(Event.class));
-        verify(filterService).enableSoftDeleteFilter();
     }
 }
\ No newline at end of file
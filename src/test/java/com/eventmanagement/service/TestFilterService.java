@@ -1,11 +1,11 @@
 // src/test/java/com/eventmanagement/service/TestFilterService.java
 package com.eventmanagement.service;
 
+import java.util.function.Supplier;
+
 public class TestFilterService extends FilterService {
     @Override
-    public void enableSoftDeleteFilter() {}
-    @Override
-    public void disableSoftDeleteFilter() {}
+    public <T> T withoutSoftDeleteFilter(Supplier<T> operation) { return operation.get(); }
     @Override
     public void withoutSoftDeleteFilter(Runnable operation) { operation.run(); }
 }
@@ -0,0 +1,54 @@
+package com.eventmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    void whenCounting_thenHeavyHittersStandOutAndNothingIsUndercounted() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        SplittableRandom random = new SplittableRandom(3);
+        long[] noise = random.longs(20_000).toArray();
+        for (long hash : noise) {
+            sketch.add(hash);
+        }
+        for (int i = 0; i < 500; i++) {
+            sketch.add(1L);
+        }
+        assertThat(sketch.estimate(1L)).isBetween(500, 500 + 100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(sketch.estimate(noise[i])).isBetween(1, 100);
+        }
+        assertThat(sketch.estimate(2L)).isLessThan(100);
+    }
+
+    @Test
+    void whenHalving_thenCountsAge() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (int i = 0; i < 10; i++) {
+            sketch.add(42L);
+        }
+        sketch.halve();
+        assertThat(sketch.estimate(42L)).isEqualTo(5);
+        assertThat(sketch.add(42L)).isEqualTo(6);
+    }
+
+    @Test
+    void whenSerialized_thenRoundTrips() {
+        CountMinSketch sketch = new CountMinSketch(2, 16);
+        sketch.add(7L);
+        sketch.add(7L);
+        CountMinSketch copy = CountMinSketch.fromBytes(sketch.toBytes());
+        assertThat(copy.estimate(7L)).isEqualTo(2);
+        assertThat(copy.hasSameDimensions(sketch)).isTrue();
+        assertThat(copy.hasSameDimensions(new CountMinSketch(2, 32))).isFalse();
+        assertThatThrownBy(() -> CountMinSketch.fromBytes(new byte[] {0, 0, 0, 2, 0, 0, 0, 16}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(4, 1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
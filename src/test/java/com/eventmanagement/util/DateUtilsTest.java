@@ -163,4 +163,13 @@ class DateUtilsTest {
         assertThat(isInFuture).isFalse();
         assertThat(isInPast).isFalse();
     }
+
+    @Test
+    void whenRoundingToMinute_thenBoundsCoverTheWholeMinute() {
+        LocalDateTime dateTime = LocalDateTime.of(2025, 6, 15, 14, 30, 25, 123_456_789);
+        assertThat(DateUtils.floorToMinute(dateTime)).isEqualTo(LocalDateTime.of(2025, 6, 15, 14, 30));
+        assertThat(DateUtils.ceilToMinute(dateTime)).isEqualTo(LocalDateTime.of(2025, 6, 15, 14, 30, 59, 999_999_000));
+        assertThat(DateUtils.floorToMinute(null)).isNull();
+        assertThat(DateUtils.ceilToMinute(null)).isNull();
+    }
 }
@@ -0,0 +1,54 @@
+package com.eventmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoUtilsTest {
+
+    @Test
+    void whenGeohash_thenMatchesReferenceEncoding() {
+        assertThat(GeoUtils.geohash(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoUtils.geohash(-90, -180, 4)).isEqualTo("0000");
+        assertThat(GeoUtils.geohash(42.605, -5.603, 5)).isEqualTo("ezs42");
+    }
+
+    @Test
+    void whenDistanceKm_thenHaversineDistanceReturned() {
+        assertThat(GeoUtils.distanceKm(51.5074, -0.1278, 48.8566, 2.3522)).isCloseTo(343.5, within(1.0));
+        assertThat(GeoUtils.distanceKm(6.9271, 79.8612, 6.9271, 79.8612)).isZero();
+    }
+
+    @Test
+    void whenCoveringCells_thenEveryPointInRadiusHasACoveredPrefix() {
+        Random random = new Random(7);
+        double[][] centres = {{6.9271, 79.8612}, {0, 179.99}, {-33.8688, 151.2093}, {89.95, 10}, {0, 0}};
+        for (double[] centre : centres) {
+            for (double radiusKm : new double[]{0.5, 5, 50, 400}) {
+                List<String> cells = GeoUtils.coveringCells(centre[0], centre[1], radiusKm, 16);
+                assertThat(cells).hasSizeLessThanOrEqualTo(16);
+
+                for (int i = 0; i < 500; i++) {
+                    double lat = Math.max(-90, Math.min(90, centre[0] + (random.nextDouble() * 2 - 1) * radiusKm / 111));
+                    double lon = centre[1] + (random.nextDouble() * 2 - 1) * radiusKm / 20;
+                    lon = lon >= 180 ? lon - 360 : lon;
+                    if (GeoUtils.distanceKm(centre[0], centre[1], lat, lon) > radiusKm) {
+                        continue;
+                    }
+                    String hash = GeoUtils.geohash(lat, lon, GeoUtils.GEOHASH_PRECISION);
+                    assertThat(cells).anyMatch(hash::startsWith);
+                }
+            }
+        }
+    }
+
+    @Test
+    void whenCircleCrossesAntimeridian_thenBoundingBoxReportsIt() {
+        assertThat(GeoUtils.boundingBox(0, 179.99, 10).crossesAntimeridian()).isTrue();
+        assertThat(GeoUtils.boundingBox(6.9271, 79.8612, 10).crossesAntimeridian()).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package com.eventmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class HyperLogLogTest {
+
+    @Test
+    void whenAddingDistinctHashes_thenEstimateIsClose() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(random.nextLong());
+        }
+        assertThat(sketch.estimate()).isCloseTo(100_000L, withinPercentage(5));
+    }
+
+    @Test
+    void whenAddingRepeats_thenTheyAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(7);
+        long[] hashes = random.longs(500).toArray();
+        for (int round = 0; round < 10; round++) {
+            for (long hash : hashes) {
+                sketch.add(hash);
+            }
+        }
+        assertThat(sketch.estimate()).isCloseTo(500L, withinPercentage(5));
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void whenEstimatingUnion_thenOverlapIsCountedOnce() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(1);
+        long[] hashes = random.longs(30_000).toArray();
+        for (int i = 0; i < 20_000; i++) {
+            first.add(hashes[i]);
+        }
+        for (int i = 10_000; i < 30_000; i++) {
+            second.add(hashes[i]);
+        }
+        assertThat(first.estimateUnion(second)).isCloseTo(30_000L, withinPercentage(5));
+        assertThatThrownBy(() -> first.estimateUnion(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
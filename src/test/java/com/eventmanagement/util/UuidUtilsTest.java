@@ -0,0 +1,56 @@
+package com.eventmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidUtilsTest {
+
+    @Test
+    void whenRandomV7_thenVersionAndVariantAreSet() {
+        UUID uuid = UuidUtils.randomV7();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void whenRandomV7_thenTimestampIsCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidUtils.randomV7();
+        long after = System.currentTimeMillis();
+
+        // The counter may borrow a millisecond when other tests generate in bulk
+        assertThat(UuidUtils.timestampMillis(uuid)).isBetween(before, after + 1000);
+    }
+
+    @Test
+    void whenGeneratedInSameMillisecond_thenStrictlyIncreasing() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UuidUtils.randomV7(1_700_000_000_000L));
+        }
+
+        // Compared as strings, matching the unsigned ordering used by PostgreSQL's uuid type
+        assertThat(uuids).extracting(UUID::toString).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void whenClockMovesBackwards_thenOrderingIsPreserved() {
+        UUID first = UuidUtils.randomV7(System.currentTimeMillis());
+        UUID afterClockStep = UuidUtils.randomV7(System.currentTimeMillis() - 60_000);
+
+        assertThat(afterClockStep.toString()).isGreaterThan(first.toString());
+    }
+
+    @Test
+    void whenTimestampOfRandomV4_thenThrowsException() {
+        assertThatThrownBy(() -> UuidUtils.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
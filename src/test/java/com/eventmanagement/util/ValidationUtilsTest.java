@@ -50,4 +50,11 @@ class ValidationUtilsTest {
         assertThat(ValidationUtils.isNotBlank("   ")).isFalse();
         assertThat(ValidationUtils.isNotBlank(null)).isFalse();
     }
+
+    @Test
+    void whenTrimToNull_thenBlankBecomesNull() {
+        assertThat(ValidationUtils.trimToNull("  hello ")).isEqualTo("hello");
+        assertThat(ValidationUtils.trimToNull("   ")).isNull();
+        assertThat(ValidationUtils.trimToNull(null)).isNull();
+    }
 }